@@ -0,0 +1,224 @@
+package com.jacs.mvvm.base.adapters;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.jacs.mvvm.interfaces.JACSOnRecyclerViewItemClicked;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Scrolls a carousel, scrolls its row off screen and back, and checks the carousel comes back at the same item and offset.
+ */
+@RunWith(AndroidJUnit4.class)
+public class JACSCarouselViewHolderTest {
+
+    private static final int ROW_COUNT = 100;
+    private static final int CELL_COUNT = 50;
+    private static final int ROW_HEIGHT = 300;
+    private static final int CELL_WIDTH = 200;
+    private static final int SCROLLED_POSITION = 10;
+    private static final int SCROLLED_OFFSET = -50;
+
+    private ActivityScenario<JACSTestActivity> scenario;
+    private RecyclerView outerRecyclerView;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        scenario = ActivityScenario.launch(JACSTestActivity.class);
+        scenario.onActivity(new ActivityScenario.ActivityAction<JACSTestActivity>() {
+            @Override
+            public void perform(JACSTestActivity activity) {
+                List<Integer> rows = new ArrayList<>();
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    rows.add(i);
+                }
+                RowAdapter adapter = new RowAdapter(activity);
+                outerRecyclerView = new RecyclerView(activity);
+                outerRecyclerView.setLayoutManager(new LinearLayoutManager(activity));
+                outerRecyclerView.setAdapter(adapter);
+                adapter.setmData(rows);
+                activity.setContentView(outerRecyclerView);
+            }
+        });
+        JACSTestActivity.awaitFrames(2);
+
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                firstRow().layoutManager.scrollToPositionWithOffset(SCROLLED_POSITION, SCROLLED_OFFSET);
+            }
+        });
+        JACSTestActivity.awaitFrames(2);
+    }
+
+    @After
+    public void tearDown() {
+        scenario.close();
+    }
+
+    @Test
+    public void scrollPosition_isKeptWhenRowIsRecycledAndBoundAgain() throws InterruptedException {
+        scrollOuterList(new Runnable() {
+            @Override
+            public void run() {
+                outerRecyclerView.scrollToPosition(ROW_COUNT - 1);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                outerRecyclerView.scrollToPosition(0);
+            }
+        });
+
+        assertCarouselAtScrolledPosition();
+    }
+
+    @Test
+    public void scrollPosition_isKeptWhenRowComesBackFromViewCache() throws InterruptedException {
+        scrollOuterList(new Runnable() {
+            @Override
+            public void run() {
+                outerRecyclerView.scrollBy(0, ROW_HEIGHT * 2);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                outerRecyclerView.scrollBy(0, -ROW_HEIGHT * 2);
+            }
+        });
+
+        assertCarouselAtScrolledPosition();
+    }
+
+    private void scrollOuterList(Runnable away, Runnable back) throws InterruptedException {
+        runOnMainSync(away);
+        JACSTestActivity.awaitFrames(2);
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                assertNull("The first row is still attached", outerRecyclerView.findViewHolderForAdapterPosition(0));
+            }
+        });
+        runOnMainSync(back);
+        JACSTestActivity.awaitFrames(2);
+    }
+
+    private void assertCarouselAtScrolledPosition() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                LinearLayoutManager layoutManager = firstRow().layoutManager;
+                int firstVisible = layoutManager.findFirstVisibleItemPosition();
+                assertEquals(SCROLLED_POSITION, firstVisible);
+                assertEquals(SCROLLED_OFFSET, layoutManager.getDecoratedLeft(layoutManager.findViewByPosition(firstVisible)));
+            }
+        });
+    }
+
+    private RowCell firstRow() {
+        return (RowCell) outerRecyclerView.findViewHolderForAdapterPosition(0);
+    }
+
+    private static void runOnMainSync(Runnable runnable) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(runnable);
+    }
+
+    private static class RowAdapter extends JACSRecyclerViewAdapter<Integer, RowCell> {
+
+        private final JACSCarouselPool carouselPool = new JACSCarouselPool();
+
+        RowAdapter(Context context) {
+            super(context);
+        }
+
+        @Override
+        public void setData(List<Integer> data) {
+            setmData(data);
+        }
+
+        @NonNull
+        @Override
+        public RowCell onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            RecyclerView carousel = new RecyclerView(parent.getContext());
+            carousel.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ROW_HEIGHT));
+            return new RowCell(carousel, carouselPool);
+        }
+    }
+
+    private static class RowCell extends JACSCarouselViewHolder<Integer, String> {
+
+        RowCell(@NonNull RecyclerView carousel, JACSCarouselPool carouselPool) {
+            super(carousel, carousel, carouselPool, 0);
+        }
+
+        @Override
+        protected JACSRecyclerViewAdapter<String, ? extends JACSViewHolder<String>> createInnerAdapter(Context context) {
+            return new CellAdapter(context);
+        }
+
+        @Override
+        protected List<String> getCarouselItems(Integer item) {
+            List<String> cells = new ArrayList<>();
+            for (int i = 0; i < CELL_COUNT; i++) {
+                cells.add(item + "." + i);
+            }
+            return cells;
+        }
+
+        @Override
+        protected long getCarouselId(Integer item) {
+            return item;
+        }
+    }
+
+    private static class CellAdapter extends JACSRecyclerViewAdapter<String, Cell> {
+
+        CellAdapter(Context context) {
+            super(context);
+        }
+
+        @Override
+        public void setData(List<String> data) {
+            setmData(data);
+        }
+
+        @NonNull
+        @Override
+        public Cell onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            TextView textView = new TextView(parent.getContext());
+            textView.setLayoutParams(new RecyclerView.LayoutParams(CELL_WIDTH, ViewGroup.LayoutParams.MATCH_PARENT));
+            return new Cell(textView);
+        }
+    }
+
+    private static class Cell extends JACSViewHolder<String> {
+
+        Cell(@NonNull View itemView) {
+            super(itemView);
+        }
+
+        @Override
+        public void onBind(String item, @Nullable JACSOnRecyclerViewItemClicked<String> listener) {
+            ((TextView) itemView).setText(item);
+        }
+    }
+}
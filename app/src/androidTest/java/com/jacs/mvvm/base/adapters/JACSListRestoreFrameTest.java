@@ -0,0 +1,261 @@
+package com.jacs.mvvm.base.adapters;
+
+import android.content.Context;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.jacs.mvvm.core.list.JACSListSnapshot;
+import com.jacs.mvvm.interfaces.JACSOnRecyclerViewItemClicked;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Measures the main thread work of the first frame after a list of 10k rows is re-created halfway down: setting the data,
+ * scrolling to the saved position, and the measure and layout pass that binds the visible rows.
+ * <p></p>
+ * `restoreState` with a snapshot is compared with the way lists were restored before it, setting all of the data and
+ * scrolling to the saved position. The medians are logged under the tag of this class. The timed runs lay out by hand;
+ * {@link #restoreState_firstFrameShowsSavedPosition()} goes through real frames in a window, where the rest of the items
+ * are added by frame callbacks.
+ */
+@RunWith(AndroidJUnit4.class)
+public class JACSListRestoreFrameTest {
+
+    private static final String TAG = "JACSListRestoreFrame";
+    private static final int ITEM_COUNT = 10000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 21;
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 1920;
+    private static final int ROW_HEIGHT = 120;
+
+    private Context context;
+    private List<String> data;
+    private JACSListSnapshot snapshot;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        data = new ArrayList<>(ITEM_COUNT);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            data.add("Row " + i);
+        }
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                // Capture the snapshot the same way a fragment does before its view is destroyed
+                RecyclerView recyclerView = createRecyclerView(new RowAdapter(context));
+                RowAdapter adapter = (RowAdapter) recyclerView.getAdapter();
+                adapter.setmData(new ArrayList<>(data));
+                ((LinearLayoutManager) recyclerView.getLayoutManager()).scrollToPositionWithOffset(ITEM_COUNT / 2, -ROW_HEIGHT / 3);
+                layOut(recyclerView);
+                snapshot = adapter.captureState(recyclerView);
+            }
+        });
+    }
+
+    @Test
+    public void restoreState_firstFrameIsNoSlowerThanFullApply() {
+        final long[] restoreNanos = new long[MEASURED_RUNS];
+        final long[] fullApplyNanos = new long[MEASURED_RUNS];
+        final int[] binds = new int[2];
+
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < WARMUP_RUNS; i++) {
+                    firstFrame(new RowAdapter(context), true);
+                    firstFrame(new RowAdapter(context), false);
+                }
+                for (int i = 0; i < MEASURED_RUNS; i++) {
+                    RowAdapter restored = new RowAdapter(context);
+                    restoreNanos[i] = firstFrame(restored, true);
+                    binds[0] = restored.bindCount;
+
+                    RowAdapter fullyApplied = new RowAdapter(context);
+                    fullApplyNanos[i] = firstFrame(fullyApplied, false);
+                    binds[1] = fullyApplied.bindCount;
+                }
+            }
+        });
+
+        long restoreMedian = median(restoreNanos);
+        long fullApplyMedian = median(fullApplyNanos);
+        Log.i(TAG, "First frame of " + ITEM_COUNT + " rows: restoreState " + restoreMedian / 1000 + "us, full apply "
+                + fullApplyMedian / 1000 + "us (medians of " + MEASURED_RUNS + "), binds " + binds[0] + " vs " + binds[1]);
+
+        assertTrue("Restore bound more rows than a full apply", binds[0] <= binds[1]);
+        assertTrue("Restore first frame " + restoreMedian + "ns, full apply " + fullApplyMedian + "ns",
+                restoreMedian <= fullApplyMedian * 11 / 10);
+    }
+
+    @Test
+    public void restoreState_firstFrameShowsSavedPosition() throws InterruptedException {
+        final RecyclerView[] recyclerView = new RecyclerView[1];
+        final RowAdapter[] adapter = new RowAdapter[1];
+        final int[] firstFrame = new int[]{RecyclerView.NO_POSITION, 0};
+
+        ActivityScenario<JACSTestActivity> scenario = ActivityScenario.launch(JACSTestActivity.class);
+        scenario.onActivity(new ActivityScenario.ActivityAction<JACSTestActivity>() {
+            @Override
+            public void perform(JACSTestActivity activity) {
+                // As in a fragment's onCreateView, the data is restored before the RecyclerView has been laid out
+                adapter[0] = new RowAdapter(activity);
+                recyclerView[0] = createRecyclerView(adapter[0]);
+                adapter[0].restoreState(recyclerView[0], data, snapshot);
+                activity.setContentView(recyclerView[0]);
+                recyclerView[0].getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+                    @Override
+                    public boolean onPreDraw() {
+                        recyclerView[0].getViewTreeObserver().removeOnPreDrawListener(this);
+                        firstFrame[0] = firstVisibleRow(recyclerView[0], adapter[0]);
+                        firstFrame[1] = adapter[0].getItemCount();
+                        return true;
+                    }
+                });
+            }
+        });
+
+        JACSTestActivity.awaitFrames(1);
+        for (int frames = 0; frames < 60 && isApplying(adapter[0]); frames++) {
+            JACSTestActivity.awaitFrames(1);
+        }
+        JACSTestActivity.awaitFrames(1);
+
+        final int[] afterFill = new int[2];
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                afterFill[0] = firstVisibleRow(recyclerView[0], adapter[0]);
+                afterFill[1] = adapter[0].getItemCount();
+            }
+        });
+        scenario.close();
+
+        assertEquals("First frame", snapshot.getAnchorPosition(), firstFrame[0]);
+        assertTrue("First frame laid out " + firstFrame[1] + " items", firstFrame[1] < ITEM_COUNT);
+        assertEquals(ITEM_COUNT, afterFill[1]);
+        assertEquals("After the rest of the items were added", snapshot.getAnchorPosition(), afterFill[0]);
+    }
+
+    /**
+     * Returns the row number of the first visible item, which is its position in the complete data.
+     */
+    private static int firstVisibleRow(RecyclerView recyclerView, RowAdapter adapter) {
+        int position = ((LinearLayoutManager) recyclerView.getLayoutManager()).findFirstVisibleItemPosition();
+        return position == RecyclerView.NO_POSITION ? position : Integer.parseInt(adapter.getItem(position).substring(4));
+    }
+
+    private static boolean isApplying(final RowAdapter adapter) {
+        final boolean[] isApplying = new boolean[1];
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                isApplying[0] = adapter.isApplyingData();
+            }
+        });
+        return isApplying[0];
+    }
+
+    /**
+     * Re-creates the list as a fragment does when its view is re-created and returns the time until the first frame has
+     * been laid out.
+     */
+    private long firstFrame(RowAdapter adapter, boolean isRestoring) {
+        RecyclerView recyclerView = createRecyclerView(adapter);
+        long start = System.nanoTime();
+        if (isRestoring) {
+            adapter.restoreState(recyclerView, data, snapshot);
+        } else {
+            adapter.setmData(data);
+            ((LinearLayoutManager) recyclerView.getLayoutManager())
+                    .scrollToPositionWithOffset(snapshot.getAnchorPosition(), snapshot.getAnchorOffset());
+        }
+        layOut(recyclerView);
+        return System.nanoTime() - start;
+    }
+
+    private static RecyclerView createRecyclerView(RowAdapter adapter) {
+        Context context = adapter.getContext();
+        RecyclerView recyclerView = new RecyclerView(context);
+        recyclerView.setLayoutManager(new LinearLayoutManager(context));
+        recyclerView.setAdapter(adapter);
+        return recyclerView;
+    }
+
+    private static void layOut(RecyclerView recyclerView) {
+        recyclerView.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        recyclerView.layout(0, 0, WIDTH, HEIGHT);
+    }
+
+    private static long median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static class RowAdapter extends JACSRecyclerViewAdapter<String, RowHolder> {
+
+        int bindCount;
+
+        private final Context context;
+
+        RowAdapter(Context context) {
+            super(context);
+            this.context = context;
+        }
+
+        Context getContext() {
+            return context;
+        }
+
+        @Override
+        public void setData(List<String> data) {
+            setmData(data);
+        }
+
+        @NonNull
+        @Override
+        public RowHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            TextView textView = new TextView(parent.getContext());
+            textView.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ROW_HEIGHT));
+            return new RowHolder(textView, this);
+        }
+    }
+
+    private static class RowHolder extends JACSViewHolder<String> {
+
+        private final RowAdapter adapter;
+
+        RowHolder(@NonNull View itemView, RowAdapter adapter) {
+            super(itemView);
+            this.adapter = adapter;
+        }
+
+        @Override
+        public void onBind(String item, @Nullable JACSOnRecyclerViewItemClicked<String> listener) {
+            adapter.bindCount++;
+            ((TextView) itemView).setText(item);
+        }
+    }
+}
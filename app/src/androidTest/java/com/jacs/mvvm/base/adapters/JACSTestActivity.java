@@ -0,0 +1,43 @@
+package com.jacs.mvvm.base.adapters;
+
+import android.app.Activity;
+import android.view.Choreographer;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * An empty Activity that gives the adapter tests a window, so RecyclerViews go through real frames.
+ */
+public class JACSTestActivity extends Activity {
+
+    /**
+     * Waits until `count` more frames have been laid out and drawn. Frame callbacks run before the layout of their
+     * frame, so this waits for one callback more than `count`.
+     */
+    static void awaitFrames(final int count) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+                    private int framesLeft = count;
+
+                    @Override
+                    public void doFrame(long frameTimeNanos) {
+                        if (framesLeft-- > 0) {
+                            Choreographer.getInstance().postFrameCallback(this);
+                        } else {
+                            latch.countDown();
+                        }
+                    }
+                });
+            }
+        });
+        assertTrue("Timed out waiting for " + count + " frames", latch.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,124 @@
+package com.jacs.mvvm.base;
+
+import android.content.Context;
+import android.util.AttributeSet;
+import android.view.InflateException;
+import android.view.LayoutInflater;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.appcompat.widget.AppCompatAutoCompleteTextView;
+import androidx.appcompat.widget.AppCompatButton;
+import androidx.appcompat.widget.AppCompatCheckBox;
+import androidx.appcompat.widget.AppCompatCheckedTextView;
+import androidx.appcompat.widget.AppCompatEditText;
+import androidx.appcompat.widget.AppCompatImageButton;
+import androidx.appcompat.widget.AppCompatImageView;
+import androidx.appcompat.widget.AppCompatMultiAutoCompleteTextView;
+import androidx.appcompat.widget.AppCompatRadioButton;
+import androidx.appcompat.widget.AppCompatRatingBar;
+import androidx.appcompat.widget.AppCompatSeekBar;
+import androidx.appcompat.widget.AppCompatSpinner;
+import androidx.appcompat.widget.AppCompatTextView;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A LayoutInflater for inflating layouts on a background thread, used by {@link JACSBaseFragment} when isInflatingAsync is set.
+ * <p></p>
+ * The Activity's inflater can't be used off the main thread: AppCompat's view factory shares state that isn't thread safe
+ * with every inflation on the main thread, and the Activity's own factory adds `<fragment>` tags to the FragmentManager.
+ * This inflater has no factories of its own and creates the AppCompat versions of the framework widgets directly, the
+ * same substitution AppCompat makes on the main thread, so a layout looks the same whichever way it is inflated.
+ * `app:theme` on a view is not applied, use `android:theme`.
+ */
+class JACSBackgroundLayoutInflater extends LayoutInflater {
+
+    private static final String[] CLASS_PREFIXES = {"android.widget.", "android.webkit.", "android.app."};
+
+    /**
+     * Layouts are inflated one at a time on a thread of their own, so they never wait behind other background work.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "JACSLayoutInflater");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private static final Factory2 APP_COMPAT_FACTORY = new Factory2() {
+        @Override
+        public View onCreateView(View parent, String name, Context context, AttributeSet attrs) {
+            switch (name) {
+                case "fragment":
+                    throw new InflateException("<fragment> tags can only be inflated on the main thread");
+                case "TextView":
+                    return new AppCompatTextView(context, attrs);
+                case "ImageView":
+                    return new AppCompatImageView(context, attrs);
+                case "Button":
+                    return new AppCompatButton(context, attrs);
+                case "EditText":
+                    return new AppCompatEditText(context, attrs);
+                case "Spinner":
+                    return new AppCompatSpinner(context, attrs);
+                case "ImageButton":
+                    return new AppCompatImageButton(context, attrs);
+                case "CheckBox":
+                    return new AppCompatCheckBox(context, attrs);
+                case "RadioButton":
+                    return new AppCompatRadioButton(context, attrs);
+                case "CheckedTextView":
+                    return new AppCompatCheckedTextView(context, attrs);
+                case "AutoCompleteTextView":
+                    return new AppCompatAutoCompleteTextView(context, attrs);
+                case "MultiAutoCompleteTextView":
+                    return new AppCompatMultiAutoCompleteTextView(context, attrs);
+                case "RatingBar":
+                    return new AppCompatRatingBar(context, attrs);
+                case "SeekBar":
+                    return new AppCompatSeekBar(context, attrs);
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public View onCreateView(String name, Context context, AttributeSet attrs) {
+            return onCreateView(null, name, context, attrs);
+        }
+    };
+
+    JACSBackgroundLayoutInflater(Context context) {
+        super(context);
+        setFactory2(APP_COMPAT_FACTORY);
+    }
+
+    static ExecutorService getExecutor() {
+        return EXECUTOR;
+    }
+
+    @Override
+    public LayoutInflater cloneInContext(Context newContext) {
+        return new JACSBackgroundLayoutInflater(newContext);
+    }
+
+    @Override
+    protected View onCreateView(String name, AttributeSet attrs) throws ClassNotFoundException {
+        for (String prefix : CLASS_PREFIXES) {
+            try {
+                View view = createView(name, prefix, attrs);
+                if (view != null) {
+                    return view;
+                }
+            } catch (ClassNotFoundException e) {
+                // Try the next prefix
+            }
+        }
+        return super.onCreateView(name, attrs);
+    }
+}
@@ -1,10 +1,13 @@
     package com.jacs.mvvm.base;
 
     import android.os.Bundle;
+    import android.os.Handler;
+    import android.os.Looper;
     import android.util.Log;
     import android.view.LayoutInflater;
     import android.view.View;
     import android.view.ViewGroup;
+    import android.widget.FrameLayout;
 
     import androidx.activity.OnBackPressedCallback;
     import androidx.annotation.Nullable;
@@ -19,6 +22,8 @@
 
     import com.jacs.mvvm.interfaces.JACSOnTopFragmentFoundListener;
 
+    import java.util.concurrent.Future;
+
 
 public abstract class JACSBaseFragment<BindingType extends ViewDataBinding, ViewModelType extends JACSViewModel> extends Fragment {
 
@@ -59,6 +64,27 @@ public abstract class JACSBaseFragment<BindingType extends ViewDataBinding, View
      */
     protected boolean isOverridingOnBackPressed = true;
 
+    /**
+     * isInflatingAsync is a boolean which, when set to true, will inflate the layout on a background thread instead of blocking the main thread.
+     * A placeholder is returned from onCreateView straight away and the layout is swapped in once it has been inflated,
+     * after which viewBinding is set and setUpViewModel() and setUpViews() are called. Use isViewBindingReady() before touching viewBinding elsewhere.
+     * <p></p>
+     * This should be set in the OnCreate method of a fragment
+     */
+    protected boolean isInflatingAsync = false;
+
+    /**
+     * placeholderLayoutID is an optional resource id for a lightweight layout (i.e: a progress bar) that is shown while the real layout is inflated.
+     * Only used when isInflatingAsync is true
+     * <p></p>
+     * This should be set in the OnCreate method of a fragment
+     */
+    protected int placeholderLayoutID = 0;
+
+    private boolean isViewBindingReady = false;
+    private int inflationGeneration = 0;
+    private Future<?> pendingInflation;
+
 
 
     @Override
@@ -73,20 +99,109 @@ public abstract class JACSBaseFragment<BindingType extends ViewDataBinding, View
 
         if (isKeepingView) {
             if (view == null) {
-                view = inflater.inflate(layoutID, container, false);
-                viewBinding = DataBindingUtil.bind(view);
-                viewBinding.setLifecycleOwner(this);
-                setUpViews();
+                view = isInflatingAsync ? inflateAsync(inflater) : inflateAndBind(inflater, container);
             }
             return view;
         }
 
-        view = inflater.inflate(layoutID, container, false);
-        if (viewModel != null){
-            setUpDataBinding(view);
+        isViewBindingReady = false;
+        view = isInflatingAsync ? inflateAsync(inflater) : inflateAndBind(inflater, container);
+        return view;
+    }
+
+    @Override
+    public void onDestroyView() {
+        if (!isKeepingView) {
+            // Drop any inflation that is still running for the view being destroyed
+            inflationGeneration++;
+            isViewBindingReady = false;
+            cancelPendingInflation();
+        }
+        super.onDestroyView();
+    }
+
+    @Override
+    public void onDestroy() {
+        inflationGeneration++;
+        cancelPendingInflation();
+        super.onDestroy();
+    }
+
+    /**
+     * Returns whether the layout has been inflated and bound. This is always true once onCreateView has returned unless isInflatingAsync is set,
+     * in which case viewBinding must not be used until this returns true
+     *
+     * @return `true` if the viewBinding and views have been set up
+     */
+    public boolean isViewBindingReady() {
+        return isViewBindingReady;
+    }
+
+    private View inflateAndBind(LayoutInflater inflater, ViewGroup container) {
+        View root = inflater.inflate(layoutID, container, false);
+        bindRootView(root);
+        return root;
+    }
+
+    /**
+     * Inflates on a thread of its own with a {@link JACSBackgroundLayoutInflater}, which creates the same AppCompat widgets
+     * as the fragment's inflater without sharing its factories with the main thread.
+     */
+    private View inflateAsync(final LayoutInflater inflater) {
+        final FrameLayout placeholder = new FrameLayout(inflater.getContext());
+        placeholder.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+        if (placeholderLayoutID != 0) {
+            inflater.inflate(placeholderLayoutID, placeholder, true);
+        }
+
+        final int generation = ++inflationGeneration;
+        final LayoutInflater backgroundInflater = new JACSBackgroundLayoutInflater(inflater.getContext());
+        final Handler mainHandler = new Handler(Looper.getMainLooper());
+        cancelPendingInflation();
+        pendingInflation = JACSBackgroundLayoutInflater.getExecutor().submit(new Runnable() {
+            @Override
+            public void run() {
+                View inflated = null;
+                try {
+                    inflated = backgroundInflater.inflate(layoutID, placeholder, false);
+                } catch (RuntimeException e) {
+                    Log.w("JACSBaseFragment", "Layout can't be inflated in the background, inflating on the main thread", e);
+                }
+                final View inflatedView = inflated;
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (generation != inflationGeneration || placeholder != view) {
+                            // The view or fragment was destroyed while the layout was being inflated
+                            return;
+                        }
+                        View root = inflatedView != null ? inflatedView : inflater.inflate(layoutID, placeholder, false);
+                        placeholder.removeAllViews();
+                        placeholder.addView(root);
+                        bindRootView(root);
+                    }
+                });
+            }
+        });
+        return placeholder;
+    }
+
+    private void cancelPendingInflation() {
+        if (pendingInflation != null) {
+            pendingInflation.cancel(false);
+            pendingInflation = null;
         }
+    }
+
+    private void bindRootView(View root) {
+        if (isKeepingView) {
+            viewBinding = DataBindingUtil.bind(root);
+            viewBinding.setLifecycleOwner(this);
+        } else if (viewModel != null) {
+            setUpDataBinding(root);
+        }
+        isViewBindingReady = true;
         setUpViews();
-        return view;
     }
 
     private void setUpOnBackPressed() {
@@ -129,7 +244,7 @@ public abstract class JACSBaseFragment<BindingType extends ViewDataBinding, View
     }
 
     /**
-     * This is called once the view has bound itself to it's rootView (during onCreateView()). If isKeepingView is true then this will only get called if the view is destroyed
+     * This is called once the view has bound itself to it's rootView (during onCreateView(), or once the layout has been swapped in when isInflatingAsync is true). If isKeepingView is true then this will only get called if the view is destroyed
      * <p></p>
      * Use this method to `setup` and views, for example: set the image for an imageView or the adapter for a recyclerView e.t.c
      * <p></p>
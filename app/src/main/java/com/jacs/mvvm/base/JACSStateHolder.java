@@ -0,0 +1,89 @@
+package com.jacs.mvvm.base;
+
+import androidx.annotation.MainThread;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Observer;
+
+import com.jacs.mvvm.core.state.JACSDistinctSelection;
+import com.jacs.mvvm.core.state.JACSEquality;
+import com.jacs.mvvm.core.state.JACSSelector;
+
+/**
+ * Holds a single immutable state object for a ViewModel and hands out LiveData for the parts of it that views bind to.
+ * <p></p>
+ * Each LiveData returned by {@link #select(JACSSelector)} only emits when its part of the state changes, so posting a
+ * new state object that only changes one field only re-runs the bindings that depend on that field.
+ *
+ * @param <S> Type of the state, it should be immutable and replaced as a whole on every change
+ */
+public class JACSStateHolder<S> {
+
+    private final MutableLiveData<S> state = new MutableLiveData<>();
+
+    public JACSStateHolder(S initialState) {
+        state.setValue(initialState);
+    }
+
+    /**
+     * Returns the current state.
+     */
+    public S getState() {
+        return state.getValue();
+    }
+
+    /**
+     * Replaces the state, must be called on the main thread.
+     */
+    @MainThread
+    public void setState(S newState) {
+        state.setValue(newState);
+    }
+
+    /**
+     * Replaces the state from any thread, the change is applied on the main thread.
+     */
+    public void postState(S newState) {
+        state.postValue(newState);
+    }
+
+    /**
+     * Returns the LiveData of the whole state, it emits for every new state object.
+     */
+    public LiveData<S> getStateLiveData() {
+        return state;
+    }
+
+    /**
+     * Returns LiveData of a value derived from the state, which only emits when the derived value is no longer equal
+     * to the previous one.
+     *
+     * @param selector Derives the value from the state, i.e. a getter of one of its fields
+     * @return LiveData to bind views to
+     */
+    public <R> LiveData<R> select(JACSSelector<S, R> selector) {
+        return select(selector, JACSEquality.EQUALS);
+    }
+
+    /**
+     * Returns LiveData of a value derived from the state, which only emits when the derived value changes.
+     *
+     * @param selector Derives the value from the state, it is not called again while the same state object is posted
+     * @param equality How a new derived value is compared with the previous one
+     * @return LiveData to bind views to
+     */
+    public <R> LiveData<R> select(JACSSelector<S, R> selector, JACSEquality equality) {
+        final JACSDistinctSelection<S, R> selection = new JACSDistinctSelection<>(selector, equality);
+        final MediatorLiveData<R> result = new MediatorLiveData<>();
+        result.addSource(state, new Observer<S>() {
+            @Override
+            public void onChanged(S newState) {
+                if (selection.update(newState)) {
+                    result.setValue(selection.getValue());
+                }
+            }
+        });
+        return result;
+    }
+}
@@ -7,12 +7,21 @@ import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.MutableLiveData;
 
+import com.jacs.mvvm.core.concurrent.JACSPriority;
+import com.jacs.mvvm.core.concurrent.JACSScheduler;
+import com.jacs.mvvm.core.concurrent.JACSTask;
+import com.jacs.mvvm.core.concurrent.JACSTaskWork;
+import com.jacs.mvvm.core.list.JACSListSnapshot;
+
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 public abstract class JACSViewModel extends AndroidViewModel implements Serializable {
 
     protected MutableLiveData<Integer> navigationActionLiveData = new MutableLiveData<>();
     protected Bundle bundle = new Bundle();
+    private final Map<String, JACSListSnapshot> listSnapshots = new HashMap<>();
 
     public JACSViewModel(@NonNull Application application) {
         super(application);
@@ -21,9 +30,80 @@ public abstract class JACSViewModel extends AndroidViewModel implements Serializ
 
     protected void init() { }
 
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        getScheduler().cancelAll(this);
+    }
+
+    /**
+     * Runs CPU work on the shared background scheduler. The work is cancelled when this ViewModel is cleared, work that
+     * runs for a long time should use {@link #runInBackground(JACSPriority, JACSTaskWork)} to be able to stop early.
+     * Post results with `postValue`.
+     *
+     * @param priority VISIBLE for work the screen is waiting for, PREFETCH for content shown soon, PREWARM for everything else
+     * @param work     The work to run
+     * @return The task, which can be used to cancel the work
+     */
+    protected JACSTask runInBackground(JACSPriority priority, Runnable work) {
+        return getScheduler().submit(this, priority, work);
+    }
+
+    /**
+     * Runs CPU work on the shared background scheduler, giving it its task. The work is cancelled when this ViewModel is
+     * cleared, long running work should check `task.isCancelled()` and stop early. Post results with `postValue`.
+     *
+     * @param priority VISIBLE for work the screen is waiting for, PREFETCH for content shown soon, PREWARM for everything else
+     * @param work     The work to run
+     * @return The task, which can be used to cancel the work
+     */
+    protected JACSTask runInBackground(JACSPriority priority, JACSTaskWork work) {
+        return getScheduler().submit(this, priority, work);
+    }
+
+    /**
+     * Returns the scheduler used by runInBackground(), the one shared by the whole app unless overridden.
+     */
+    protected JACSScheduler getScheduler() {
+        return JACSScheduler.getDefault();
+    }
+
     protected void performAction(Integer action, Bundle bundle) {
         this.bundle = bundle;
         navigationActionLiveData.setValue(action);
     }
 
+    /**
+     * Creates a holder for a single immutable state object. Expose the fields your layout binds to with `select`
+     * so that bindings only re-run when the field they use changes, i.e:
+     * "public final LiveData&lt;String&gt; title = state.select(...)"
+     *
+     * @param initialState The state before any changes
+     * @return A new state holder
+     */
+    protected <S> JACSStateHolder<S> createStateHolder(S initialState) {
+        return new JACSStateHolder<>(initialState);
+    }
+
+    /**
+     * Keeps the snapshot of a list so it survives the fragment's view being destroyed, i.e. on rotation or when the
+     * fragment goes onto the back stack.
+     *
+     * @param key      A key for the list, unique within this ViewModel
+     * @param snapshot The snapshot from the adapter's `captureState`
+     */
+    public void saveListSnapshot(String key, JACSListSnapshot snapshot) {
+        listSnapshots.put(key, snapshot);
+    }
+
+    /**
+     * Returns the snapshot saved for a list, or null if there isn't one.
+     *
+     * @param key The key the snapshot was saved with
+     * @return The saved snapshot
+     */
+    public JACSListSnapshot getListSnapshot(String key) {
+        return listSnapshots.get(key);
+    }
+
 }
@@ -0,0 +1,42 @@
+package com.jacs.mvvm.base.adapters;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.jacs.mvvm.core.list.JACSListUpdateCallback;
+
+/**
+ * Forwards the changes of a {@link com.jacs.mvvm.core.list.JACSListStore} to the notify methods of an adapter.
+ */
+class JACSAdapterListUpdateCallback implements JACSListUpdateCallback {
+
+    private final RecyclerView.Adapter adapter;
+
+    JACSAdapterListUpdateCallback(RecyclerView.Adapter adapter) {
+        this.adapter = adapter;
+    }
+
+    @Override
+    public void onInserted(int position, int count) {
+        adapter.notifyItemRangeInserted(position, count);
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+        adapter.notifyItemRangeRemoved(position, count);
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition) {
+        adapter.notifyItemMoved(fromPosition, toPosition);
+    }
+
+    @Override
+    public void onChanged(int position, int count) {
+        adapter.notifyItemRangeChanged(position, count);
+    }
+
+    @Override
+    public void onDataSetChanged() {
+        adapter.notifyDataSetChanged();
+    }
+}
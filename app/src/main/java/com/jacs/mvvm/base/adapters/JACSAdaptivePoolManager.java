@@ -0,0 +1,173 @@
+package com.jacs.mvvm.base.adapters;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.jacs.mvvm.core.pool.JACSPoolSizer;
+import com.jacs.mvvm.core.pool.JACSViewTypeStats;
+
+import java.util.List;
+
+/**
+ * Sizes the {@link RecyclerView.RecycledViewPool} of a RecyclerView per view type from runtime statistics, instead of
+ * RecyclerView's fixed 5 ViewHolders per view type.
+ * <p></p>
+ * View types whose ViewHolders keep being created again during flings get a bigger pool, view types that never run out
+ * are shrunk back, and every pool shrinks when the system reports memory pressure. See {@link JACSPoolSizer} for the rules.
+ * <p></p>
+ * Created by the base adapters when adaptive pool sizing is enabled. Don't use it with a pool that is shared between
+ * several RecyclerViews, such as the pools of a {@link JACSCarouselPool}.
+ */
+public class JACSAdaptivePoolManager {
+
+    private final Context context;
+    private final JACSPoolSizer sizer;
+    private RecyclerView recyclerView;
+    private RecyclerView.RecycledViewPool pool;
+    private boolean isListeningToMemory;
+
+    private final ComponentCallbacks2 memoryCallbacks = new ComponentCallbacks2() {
+        @Override
+        public void onTrimMemory(int level) {
+            if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+                onMemoryPressure(true);
+            } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+                onMemoryPressure(false);
+            }
+        }
+
+        @Override
+        public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+        @Override
+        public void onLowMemory() {
+            onMemoryPressure(true);
+        }
+    };
+
+    /**
+     * The application context outlives the screen, so only listen to memory pressure while the RecyclerView is in a
+     * window. Otherwise a RecyclerView whose fragment view has been destroyed would be kept alive through its pool.
+     */
+    private final View.OnAttachStateChangeListener windowListener = new View.OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(View view) {
+            startListeningToMemory();
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(View view) {
+            stopListeningToMemory();
+        }
+    };
+
+    JACSAdaptivePoolManager(Context context, JACSPoolSizer sizer) {
+        this.context = context.getApplicationContext();
+        this.sizer = sizer;
+    }
+
+    void attach(RecyclerView recyclerView) {
+        detach();
+        this.recyclerView = recyclerView;
+        pool = recyclerView.getRecycledViewPool();
+        for (JACSViewTypeStats typeStats : sizer.getAllStats()) {
+            pool.setMaxRecycledViews(typeStats.getViewType(), typeStats.getRecommendedSize());
+        }
+        recyclerView.addOnAttachStateChangeListener(windowListener);
+        if (recyclerView.isAttachedToWindow()) {
+            startListeningToMemory();
+        }
+    }
+
+    void detach() {
+        if (recyclerView != null) {
+            recyclerView.removeOnAttachStateChangeListener(windowListener);
+            recyclerView = null;
+            pool = null;
+        }
+        stopListeningToMemory();
+    }
+
+    /**
+     * Puts the pool size of every view type this manager has sized back to RecyclerView's default, called when adaptive
+     * sizing is turned off so the pool doesn't keep the last sizes it was given.
+     */
+    void resetPoolSizes() {
+        if (pool != null) {
+            for (JACSViewTypeStats typeStats : sizer.getAllStats()) {
+                pool.setMaxRecycledViews(typeStats.getViewType(), JACSPoolSizer.DEFAULT_POOL_SIZE);
+            }
+        }
+    }
+
+    void onBound(int viewType, boolean isReused) {
+        if (!isReused && sizer.onCreated(viewType)) {
+            applySize(viewType);
+        }
+        if (sizer.onBound(viewType, isReused)) {
+            applySize(viewType);
+        }
+    }
+
+    void onRecycled(int viewType) {
+        // Called before the ViewHolder is put in the pool, which throws it away if it already holds the maximum
+        boolean isDropped = pool != null && pool.getRecycledViewCount(viewType) >= sizer.getRecommendedSize(viewType);
+        sizer.onRecycled(viewType, isDropped);
+    }
+
+    void onAttached(int viewType) {
+        sizer.onAttached(viewType);
+    }
+
+    void onDetached(int viewType) {
+        sizer.onDetached(viewType);
+    }
+
+    void onMemoryPressure(boolean isSevere) {
+        List<Integer> changed = sizer.onMemoryPressure(isSevere);
+        for (Integer viewType : changed) {
+            applySize(viewType);
+        }
+    }
+
+    /**
+     * Returns the statistics of every view type seen so far.
+     */
+    public List<JACSViewTypeStats> getStats() {
+        return sizer.getAllStats();
+    }
+
+    /**
+     * Returns the statistics of a view type, or null if no ViewHolder of that type has been bound yet.
+     */
+    @Nullable
+    public JACSViewTypeStats getStats(int viewType) {
+        return sizer.getStats(viewType);
+    }
+
+    private void startListeningToMemory() {
+        if (!isListeningToMemory) {
+            context.registerComponentCallbacks(memoryCallbacks);
+            isListeningToMemory = true;
+        }
+    }
+
+    private void stopListeningToMemory() {
+        if (isListeningToMemory) {
+            context.unregisterComponentCallbacks(memoryCallbacks);
+            isListeningToMemory = false;
+        }
+    }
+
+    private void applySize(int viewType) {
+        if (pool != null) {
+            pool.setMaxRecycledViews(viewType, sizer.getRecommendedSize(viewType));
+        }
+    }
+}
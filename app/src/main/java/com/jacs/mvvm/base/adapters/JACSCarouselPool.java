@@ -0,0 +1,97 @@
+package com.jacs.mvvm.base.adapters;
+
+import android.os.Parcelable;
+import android.util.SparseArray;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.jacs.mvvm.core.cache.JACSLruCache;
+
+/**
+ * Shared state for the horizontal lists (carousels) inside a vertical list.
+ * <p></p>
+ * Create one JACSCarouselPool per outer adapter and pass it to every {@link JACSCarouselViewHolder}. It holds:
+ * <p></p>
+ * - one {@link RecyclerView.RecycledViewPool} per carousel type, so inner lists of the same type reuse each others ViewHolders instead of inflating their own
+ * <p></p>
+ * - the number of items each inner list prefetches when it is about to scroll on screen
+ * <p></p>
+ * - a bounded cache of the scroll positions of the inner lists, keyed by the id of the outer item
+ */
+public class JACSCarouselPool {
+
+    public static final int DEFAULT_MAX_SCROLL_STATES = 100;
+    public static final int DEFAULT_INITIAL_PREFETCH_ITEM_COUNT = 4;
+
+    private final SparseArray<RecyclerView.RecycledViewPool> viewPools = new SparseArray<>();
+    private final JACSLruCache<Long, Parcelable> scrollStates;
+    private int initialPrefetchItemCount = DEFAULT_INITIAL_PREFETCH_ITEM_COUNT;
+
+    public JACSCarouselPool() {
+        this(DEFAULT_MAX_SCROLL_STATES);
+    }
+
+    /**
+     * @param maxScrollStates The maximum number of inner scroll positions to remember, the least recently used are dropped first
+     */
+    public JACSCarouselPool(int maxScrollStates) {
+        scrollStates = new JACSLruCache<>(maxScrollStates);
+    }
+
+    /**
+     * Returns the pool shared by every inner list of the given type. Inner lists that use the same carousel type must
+     * use the same view types for the same layouts, as their ViewHolders are swapped between each other.
+     *
+     * @param carouselType Type of the carousel, i.e. the view type of the outer row
+     * @return The shared pool for this carousel type
+     */
+    public RecyclerView.RecycledViewPool getRecycledViewPool(int carouselType) {
+        RecyclerView.RecycledViewPool pool = viewPools.get(carouselType);
+        if (pool == null) {
+            pool = new RecyclerView.RecycledViewPool();
+            viewPools.put(carouselType, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Sets the number of items an inner list prefetches while it is being scrolled on screen, this should be about the
+     * number of items visible in a carousel. Only applies to inner lists created after this call.
+     *
+     * @param initialPrefetchItemCount Number of items to prefetch
+     */
+    public void setInitialPrefetchItemCount(int initialPrefetchItemCount) {
+        this.initialPrefetchItemCount = initialPrefetchItemCount;
+    }
+
+    public int getInitialPrefetchItemCount() {
+        return initialPrefetchItemCount;
+    }
+
+    /**
+     * Remembers the scroll position of the inner list showing the outer item with the given id.
+     */
+    public void saveScrollState(long itemId, @Nullable Parcelable state) {
+        if (state == null) {
+            scrollStates.remove(itemId);
+        } else {
+            scrollStates.put(itemId, state);
+        }
+    }
+
+    /**
+     * Returns the scroll position saved for the outer item with the given id, or null if there isn't one.
+     */
+    @Nullable
+    public Parcelable getScrollState(long itemId) {
+        return scrollStates.get(itemId);
+    }
+
+    /**
+     * Forgets every saved scroll position, i.e. when the outer data set has been replaced.
+     */
+    public void clearScrollStates() {
+        scrollStates.evictAll();
+    }
+}
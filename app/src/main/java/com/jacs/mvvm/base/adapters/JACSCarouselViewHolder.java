@@ -0,0 +1,124 @@
+package com.jacs.mvvm.base.adapters;
+
+import android.content.Context;
+import android.os.Parcelable;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.jacs.mvvm.interfaces.JACSOnRecyclerViewItemClicked;
+
+import java.util.List;
+
+/**
+ * A ViewHolder for a row of a vertical list that shows a horizontal list (carousel) of its own.
+ * <p></p>
+ * The inner adapter is only created once per ViewHolder and its ViewHolders come from the {@link JACSCarouselPool}
+ * shared by all carousels of the same type. The scroll position of the inner list is saved when the row is detached
+ * from the window, before the inner list gives its ViewHolders back to the pool, and restored when a row with the same
+ * id is bound again.
+ *
+ * @param <T> Type of the outer item, i.e. a category
+ * @param <I> Type of the items inside the carousel
+ */
+public abstract class JACSCarouselViewHolder<T, I> extends JACSViewHolder<T> {
+
+    protected final RecyclerView recyclerView;
+    protected final LinearLayoutManager layoutManager;
+    protected JACSRecyclerViewAdapter<I, ? extends JACSViewHolder<I>> innerAdapter;
+    private final JACSCarouselPool carouselPool;
+    private long boundItemId = RecyclerView.NO_ID;
+
+    /**
+     * @param itemView     The view of the row
+     * @param recyclerView The inner RecyclerView inside itemView
+     * @param carouselPool The pool shared by every carousel of the outer adapter
+     * @param carouselType Carousels of the same type share their ViewHolders, i.e. pass the view type of this row
+     */
+    public JACSCarouselViewHolder(@NonNull View itemView, @NonNull RecyclerView recyclerView, @NonNull JACSCarouselPool carouselPool, int carouselType) {
+        super(itemView);
+        this.recyclerView = recyclerView;
+        this.carouselPool = carouselPool;
+
+        layoutManager = new LinearLayoutManager(itemView.getContext(), LinearLayoutManager.HORIZONTAL, false);
+        layoutManager.setInitialPrefetchItemCount(carouselPool.getInitialPrefetchItemCount());
+        // Give the inner ViewHolders back to the shared pool when this row is detached
+        layoutManager.setRecycleChildrenOnDetach(true);
+        recyclerView.setLayoutManager(layoutManager);
+        recyclerView.setRecycledViewPool(carouselPool.getRecycledViewPool(carouselType));
+    }
+
+    /**
+     * Creates the adapter for the inner list, this is only called once per ViewHolder.
+     *
+     * @param context Context of the inner RecyclerView
+     * @return A new adapter for the items inside the carousel
+     */
+    protected abstract JACSRecyclerViewAdapter<I, ? extends JACSViewHolder<I>> createInnerAdapter(Context context);
+
+    /**
+     * Returns the items to show in the carousel for an outer item.
+     */
+    protected abstract List<I> getCarouselItems(T item);
+
+    /**
+     * Returns a stable id for an outer item, used to save and restore the scroll position of its carousel.
+     */
+    protected abstract long getCarouselId(T item);
+
+    /**
+     * Binds the carousel items of the outer item to the inner list and restores its scroll position.
+     * Override this to bind the rest of the row, calling super.
+     */
+    @Override
+    public void onBind(T item, @Nullable JACSOnRecyclerViewItemClicked<T> listener) {
+        saveScrollState();
+
+        if (innerAdapter == null) {
+            innerAdapter = createInnerAdapter(recyclerView.getContext());
+            recyclerView.setAdapter(innerAdapter);
+        }
+
+        boundItemId = getCarouselId(item);
+        innerAdapter.setmData(getCarouselItems(item));
+
+        Parcelable scrollState = carouselPool.getScrollState(boundItemId);
+        if (scrollState != null) {
+            layoutManager.onRestoreInstanceState(scrollState);
+        } else {
+            layoutManager.scrollToPosition(0);
+        }
+    }
+
+    @Override
+    public void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        saveScrollState();
+        Parcelable scrollState = carouselPool.getScrollState(boundItemId);
+        if (scrollState != null) {
+            // The inner list gives its children back to the pool on detach, so a row re-attached from the outer
+            // RecyclerView's view cache without being bound again would otherwise start at the first item
+            layoutManager.onRestoreInstanceState(scrollState);
+        }
+    }
+
+    @Override
+    public void onRecycled() {
+        super.onRecycled();
+        boundItemId = RecyclerView.NO_ID;
+    }
+
+    /**
+     * Saves the scroll position of the inner list for the outer item that is currently bound.
+     * Does nothing once the inner list has no children, i.e. after its row has been detached, as it has no position left
+     * to save and would overwrite the one saved on detach.
+     */
+    public void saveScrollState() {
+        if (boundItemId != RecyclerView.NO_ID && layoutManager.getChildCount() > 0) {
+            carouselPool.saveScrollState(boundItemId, layoutManager.onSaveInstanceState());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.jacs.mvvm.base.adapters;
+
+import android.view.Choreographer;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.jacs.mvvm.core.list.JACSChunkedApply;
+import com.jacs.mvvm.interfaces.JACSOnApplyProgressListener;
+
+import java.util.List;
+
+/**
+ * Runs a {@link JACSChunkedApply} on the main thread, one step per frame using {@link Choreographer}, so a large data
+ * set never blocks input or drawing for more than the frame budget.
+ * <p></p>
+ * Any other change to the adapter must call {@link #flush()} first, so that it applies to the complete list, or
+ * {@link #cancel()} if it replaces every item.
+ * <p></p>
+ * Frame callbacks run before the layout of the same frame, so a step waits until the RecyclerView has laid out the
+ * previous one. Otherwise the items before a restored window would be inserted before the first layout, while
+ * LinearLayoutManager's pending scroll position still points into the window, and the list would open too high.
+ */
+abstract class JACSFrameBudgetApplier<T> {
+
+    private long frameBudgetNanos = 0;
+    private JACSChunkedApply<T> currentApply;
+    private RecyclerView recyclerView;
+    private JACSOnApplyProgressListener progressListener;
+
+    private final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            JACSChunkedApply<T> apply = currentApply;
+            if (apply == null) {
+                return;
+            }
+            if (apply.getStore().getItems() != currentItems()) {
+                // The adapter's list has been replaced since the apply started
+                clear();
+                return;
+            }
+            if (recyclerView != null && recyclerView.isLayoutRequested()) {
+                // The previous step has not been laid out yet, i.e. the restored window before the first layout
+                Choreographer.getInstance().postFrameCallback(this);
+                return;
+            }
+            boolean isDone = apply.step(frameBudgetNanos > 0 ? frameBudgetNanos : Long.MAX_VALUE);
+            if (isDone) {
+                clear();
+            } else {
+                Choreographer.getInstance().postFrameCallback(this);
+            }
+            dispatchProgress(apply);
+        }
+    };
+
+    /**
+     * Returns the list currently held by the adapter.
+     */
+    abstract List<T> currentItems();
+
+    /**
+     * Sets the time each frame may spend applying data, 0 applies the rest of the data in one go on the next frame.
+     */
+    void setFrameBudgetNanos(long frameBudgetNanos) {
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    long getFrameBudgetNanos() {
+        return frameBudgetNanos;
+    }
+
+    void setProgressListener(@Nullable JACSOnApplyProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Applies the first step straight away and the rest on the following frames.
+     *
+     * @param apply           The apply to run, any apply that is already running is completed first
+     * @param firstStepNanos  Budget of the first step, 0 only applies the window of a replace
+     * @param recyclerView    The RecyclerView showing the adapter, each step waits for it to lay out the previous one
+     */
+    void start(JACSChunkedApply<T> apply, long firstStepNanos, @Nullable RecyclerView recyclerView) {
+        flush();
+        if (apply.step(firstStepNanos)) {
+            dispatchProgress(apply);
+            return;
+        }
+        currentApply = apply;
+        this.recyclerView = recyclerView;
+        Choreographer.getInstance().postFrameCallback(frameCallback);
+        dispatchProgress(apply);
+    }
+
+    /**
+     * Applies whatever is left of the running apply straight away.
+     * The apply is dropped if the adapter's list has been replaced since it started.
+     */
+    void flush() {
+        JACSChunkedApply<T> apply = currentApply;
+        if (apply == null) {
+            return;
+        }
+        clear();
+        if (apply.getStore().getItems() == currentItems()) {
+            apply.complete();
+            dispatchProgress(apply);
+        }
+    }
+
+    /**
+     * Drops the running apply without applying the rest of it, for changes that replace every item anyway. The items
+     * applied so far stay in the list, the RecyclerView has already been told about them.
+     */
+    void cancel() {
+        if (currentApply != null) {
+            clear();
+        }
+    }
+
+    boolean isApplying() {
+        return currentApply != null;
+    }
+
+    private void clear() {
+        currentApply = null;
+        recyclerView = null;
+        Choreographer.getInstance().removeFrameCallback(frameCallback);
+    }
+
+    private void dispatchProgress(JACSChunkedApply<T> apply) {
+        if (progressListener != null) {
+            progressListener.onApplyProgress(apply);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.jacs.mvvm.base.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.jacs.mvvm.core.cache.JACSItemValueCache;
+import com.jacs.mvvm.core.cache.JACSValueComputer;
+import com.jacs.mvvm.core.concurrent.JACSPriority;
+import com.jacs.mvvm.core.concurrent.JACSScheduler;
+import com.jacs.mvvm.core.list.JACSItemIdProvider;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Caches values derived from the items of an adapter, such as formatted dates, Spannables or PrecomputedText, so
+ * ViewHolders don't compute them again every time a row is rebound while scrolling back and forth.
+ * <p></p>
+ * Values are keyed by the id returned by the {@link JACSItemIdProvider} and checked against the adapter's
+ * `getItemVersion`, bounded by the bytes reported by the {@link JACSValueComputer}. The id must be unique to the item and
+ * must not change with its content, two items with the same id and version share one value. While the list scrolls, values for the rows about to become visible are computed on
+ * the shared {@link JACSScheduler} so that by the time they are bound, {@link #get(Object)} is a cache hit.
+ * <p></p>
+ * Create it with the adapter's `createItemValueService`, which also invalidates values when items are removed or
+ * updated through the adapter. Items must not be changed in place while they are in the adapter, as they are read on a
+ * background thread.
+ *
+ * @param <T> Type of the items
+ * @param <V> Type of the derived values
+ */
+public class JACSItemValueService<T, V> {
+
+    public static final int DEFAULT_PREFETCH_DISTANCE = 10;
+
+    /**
+     * Gives the service access to the adapter it belongs to.
+     */
+    interface ItemSource<T> {
+        int getItemCount();
+
+        T getItem(int position);
+
+        long getItemVersion(T item);
+    }
+
+    private final ItemSource<T> itemSource;
+    private final JACSItemIdProvider<T> idProvider;
+    private final JACSValueComputer<T, V> computer;
+    private final JACSItemValueCache<V> cache;
+    private final Set<Long> pendingIds = new HashSet<>();
+    private int prefetchDistance = DEFAULT_PREFETCH_DISTANCE;
+    private RecyclerView recyclerView;
+
+    private final RecyclerView.OnScrollListener prefetchScrollListener = new RecyclerView.OnScrollListener() {
+        @Override
+        public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+            if (!(recyclerView.getLayoutManager() instanceof LinearLayoutManager)) {
+                return;
+            }
+            LinearLayoutManager layoutManager = (LinearLayoutManager) recyclerView.getLayoutManager();
+            if (dy > 0 || dx > 0) {
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible != RecyclerView.NO_POSITION) {
+                    prefetch(lastVisible + 1, lastVisible + prefetchDistance);
+                }
+            } else if (dy < 0 || dx < 0) {
+                int firstVisible = layoutManager.findFirstVisibleItemPosition();
+                if (firstVisible != RecyclerView.NO_POSITION) {
+                    prefetch(firstVisible - prefetchDistance, firstVisible - 1);
+                }
+            }
+        }
+    };
+
+    JACSItemValueService(ItemSource<T> itemSource, JACSItemIdProvider<T> idProvider, JACSValueComputer<T, V> computer,
+                         int maxBytes) {
+        this.itemSource = itemSource;
+        this.idProvider = idProvider;
+        this.computer = computer;
+        this.cache = new JACSItemValueCache<>(maxBytes);
+    }
+
+    /**
+     * Returns the value for an item, computing it on the calling thread if it is not cached yet.
+     *
+     * @param item item to get the value of
+     * @return The derived value
+     */
+    public V get(T item) {
+        long id = idProvider.getItemId(item);
+        long version = itemSource.getItemVersion(item);
+        V value = cache.get(id, version);
+        if (value == null) {
+            value = computer.compute(item);
+            cache.put(id, version, value, computer.sizeOf(value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value for an item if it is cached, without computing it.
+     *
+     * @param item item to get the value of
+     * @return The derived value, or null
+     */
+    @Nullable
+    public V peek(T item) {
+        return cache.get(idProvider.getItemId(item), itemSource.getItemVersion(item));
+    }
+
+    /**
+     * Computes the values of the items in [fromPosition, toPosition] that are not cached yet in the background.
+     * Positions outside of the adapter are ignored.
+     */
+    public void prefetch(int fromPosition, int toPosition) {
+        JACSScheduler scheduler = getScheduler();
+        int from = Math.max(0, fromPosition);
+        int to = Math.min(itemSource.getItemCount() - 1, toPosition);
+        for (int position = from; position <= to; position++) {
+            final T item = itemSource.getItem(position);
+            final long id = idProvider.getItemId(item);
+            final long version = itemSource.getItemVersion(item);
+            if (cache.contains(id, version)) {
+                continue;
+            }
+            synchronized (pendingIds) {
+                if (!pendingIds.add(id)) {
+                    continue;
+                }
+            }
+            scheduler.submit(this, JACSPriority.PREFETCH, new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        if (!cache.contains(id, version)) {
+                            V value = computer.compute(item);
+                            cache.put(id, version, value, computer.sizeOf(value));
+                        }
+                    } finally {
+                        synchronized (pendingIds) {
+                            pendingIds.remove(id);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Sets how many items ahead of the visible ones are computed in the background while scrolling.
+     *
+     * @param prefetchDistance number of items to compute ahead
+     */
+    public void setPrefetchDistance(int prefetchDistance) {
+        this.prefetchDistance = prefetchDistance;
+    }
+
+    /**
+     * Drops the cached value of an item.
+     */
+    public void invalidate(T item) {
+        cache.invalidate(idProvider.getItemId(item));
+    }
+
+    /**
+     * Drops every cached value.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the underlying cache, i.e. to read its size and hit rate.
+     */
+    public JACSItemValueCache<V> getCache() {
+        return cache;
+    }
+
+    void attach(RecyclerView recyclerView) {
+        detach();
+        this.recyclerView = recyclerView;
+        recyclerView.addOnScrollListener(prefetchScrollListener);
+    }
+
+    void detach() {
+        if (recyclerView != null) {
+            recyclerView.removeOnScrollListener(prefetchScrollListener);
+            recyclerView = null;
+        }
+        getScheduler().cancelAll(this);
+        synchronized (pendingIds) {
+            pendingIds.clear();
+        }
+    }
+
+    private JACSScheduler getScheduler() {
+        return JACSScheduler.getDefault();
+    }
+}
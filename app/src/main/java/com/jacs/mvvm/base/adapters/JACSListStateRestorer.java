@@ -0,0 +1,103 @@
+package com.jacs.mvvm.base.adapters;
+
+import android.view.View;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.OrientationHelper;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.jacs.mvvm.core.JACSClock;
+import com.jacs.mvvm.core.list.JACSChunkedApply;
+import com.jacs.mvvm.core.list.JACSItemIdProvider;
+import com.jacs.mvvm.core.list.JACSListSnapshot;
+import com.jacs.mvvm.core.list.JACSListStore;
+
+import java.util.List;
+
+/**
+ * Captures {@link JACSListSnapshot}s of an adapter and restores them by applying a window of items around the anchor
+ * first and filling in the rest of the items on the following frames.
+ */
+class JACSListStateRestorer<T> {
+
+    private List<T> restoredSource;
+    private int restoredSourceSize;
+
+    JACSListSnapshot capture(RecyclerView recyclerView, List<T> items, JACSItemIdProvider<T> idProvider) {
+        return captureAnchor(recyclerView, items.size(), JACSListSnapshot.fingerprintOf(items, idProvider));
+    }
+
+    /**
+     * Returns a snapshot of the position of the RecyclerView, without working out the fingerprint of the items.
+     */
+    JACSListSnapshot captureAnchor(@Nullable RecyclerView recyclerView, int itemCount, long fingerprint) {
+        int anchorPosition = 0;
+        int anchorOffset = 0;
+
+        if (recyclerView != null && recyclerView.getLayoutManager() instanceof LinearLayoutManager) {
+            LinearLayoutManager layoutManager = (LinearLayoutManager) recyclerView.getLayoutManager();
+            int firstVisible = layoutManager.findFirstVisibleItemPosition();
+            View anchorView = firstVisible != RecyclerView.NO_POSITION ? layoutManager.findViewByPosition(firstVisible) : null;
+            if (anchorView != null) {
+                OrientationHelper helper = OrientationHelper.createOrientationHelper(layoutManager, layoutManager.getOrientation());
+                anchorPosition = firstVisible;
+                anchorOffset = helper.getDecoratedStart(anchorView) - helper.getStartAfterPadding();
+            }
+        }
+        return new JACSListSnapshot(itemCount, fingerprint, anchorPosition, anchorOffset);
+    }
+
+    void restore(RecyclerView recyclerView, JACSListStore<T> store, List<T> data, @Nullable JACSListSnapshot snapshot,
+                 JACSItemIdProvider<T> idProvider, int windowSize, JACSFrameBudgetApplier<T> applier) {
+        applier.cancel();
+        restoredSource = data;
+        restoredSourceSize = data.size();
+
+        boolean isLinear = recyclerView.getLayoutManager() instanceof LinearLayoutManager;
+        if (snapshot == null || !isLinear || !snapshot.matches(data, idProvider)) {
+            store.setAll(data);
+            return;
+        }
+
+        applyAroundAnchor(recyclerView, store, data, snapshot, windowSize, applier, 0);
+    }
+
+    /**
+     * Applies the window of `data` around the anchor of `snapshot` in the first step, scrolls to the anchor and leaves the
+     * rest of the data to the applier.
+     *
+     * @param firstStepNanos Budget of the first step, 0 only applies the window
+     */
+    void applyAroundAnchor(@Nullable RecyclerView recyclerView, JACSListStore<T> store, List<T> data, JACSListSnapshot snapshot,
+                           int windowSize, JACSFrameBudgetApplier<T> applier, long firstStepNanos) {
+        int start = snapshot.getWindowStart(windowSize);
+        int end = snapshot.getWindowEnd(windowSize);
+
+        JACSChunkedApply<T> apply = JACSChunkedApply.replace(store, data, start, end, JACSClock.SYSTEM);
+        applier.start(apply, firstStepNanos, recyclerView);
+        if (end > start && recyclerView != null && recyclerView.getLayoutManager() instanceof LinearLayoutManager) {
+            // Items before the window may still be waiting to be inserted above the anchor, so scroll to where the anchor is now
+            int anchorPosition = apply.toStorePosition(Math.min(snapshot.getAnchorPosition(), end - 1));
+            ((LinearLayoutManager) recyclerView.getLayoutManager()).scrollToPositionWithOffset(anchorPosition, snapshot.getAnchorOffset());
+        }
+    }
+
+    /**
+     * Returns whether `data` is the unchanged list that was last restored, in which case setting it again is not needed.
+     * Only the first data set after a restore is checked, i.e. data binding setting the restored list; the list may be
+     * changed in place and set again afterwards, so any later data set is applied.
+     */
+    boolean consumeRestoredSource(List<T> data) {
+        boolean isRestoredSource = data != null && data == restoredSource && data.size() == restoredSourceSize;
+        restoredSource = null;
+        return isRestoredSource;
+    }
+
+    /**
+     * Called when the adapter's data is changed by anything other than a restore.
+     */
+    void forgetRestoredSource() {
+        restoredSource = null;
+    }
+}
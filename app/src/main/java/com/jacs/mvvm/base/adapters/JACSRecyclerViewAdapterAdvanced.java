@@ -10,7 +10,15 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 
+import com.jacs.mvvm.core.JACSClock;
+import com.jacs.mvvm.core.cache.JACSValueComputer;
+import com.jacs.mvvm.core.list.JACSChunkedApply;
+import com.jacs.mvvm.core.list.JACSItemIdProvider;
+import com.jacs.mvvm.core.list.JACSListSnapshot;
+import com.jacs.mvvm.core.list.JACSListStore;
+import com.jacs.mvvm.core.pool.JACSPoolSizer;
 import com.jacs.mvvm.interfaces.JACSBindableAdapter;
+import com.jacs.mvvm.interfaces.JACSOnApplyProgressListener;
 import com.jacs.mvvm.interfaces.JACSOnRecyclerViewItemClicked;
 
 import java.util.ArrayList;
@@ -18,9 +26,56 @@ import java.util.List;
 
 public abstract class JACSRecyclerViewAdapterAdvanced<T, L, VH extends JACSViewHolderAdvanced<T, L>> extends RecyclerView.Adapter<VH> implements JACSBindableAdapter<T> {
 
+    /**
+     * The number of items applied first when restoring a {@link JACSListSnapshot} or applying a large data set with a frame budget,
+     * the rest are filled in on the following frames.
+     */
+    public static final int DEFAULT_RESTORE_WINDOW_SIZE = 50;
+
     protected List<T> items;
     private JACSOnRecyclerViewItemClicked<L> listener;
     private LayoutInflater layoutInflater;
+    private final JACSAdapterListUpdateCallback listUpdateCallback = new JACSAdapterListUpdateCallback(this);
+    private JACSListStore<T> listStore;
+    private int restoreWindowSize = DEFAULT_RESTORE_WINDOW_SIZE;
+    private int frameBudgetMinItemCount = 0;
+    private RecyclerView attachedRecyclerView;
+    private JACSAdaptivePoolManager adaptivePoolManager;
+
+    private final JACSListStateRestorer<T> stateRestorer = new JACSListStateRestorer<>();
+
+    private final JACSFrameBudgetApplier<T> frameBudgetApplier = new JACSFrameBudgetApplier<T>() {
+        @Override
+        List<T> currentItems() {
+            return items;
+        }
+    };
+
+    private final JACSItemIdProvider<T> itemIdProvider = new JACSItemIdProvider<T>() {
+        @Override
+        public long getItemId(T item) {
+            return getItemStableId(item);
+        }
+    };
+
+    private final List<JACSItemValueService<T, ?>> itemValueServices = new ArrayList<>();
+
+    private final JACSItemValueService.ItemSource<T> itemValueSource = new JACSItemValueService.ItemSource<T>() {
+        @Override
+        public int getItemCount() {
+            return JACSRecyclerViewAdapterAdvanced.this.getItemCount();
+        }
+
+        @Override
+        public T getItem(int position) {
+            return JACSRecyclerViewAdapterAdvanced.this.getItem(position);
+        }
+
+        @Override
+        public long getItemVersion(T item) {
+            return JACSRecyclerViewAdapterAdvanced.this.getItemVersion(item);
+        }
+    };
 
     @Override
     public abstract void setData(List<T> data);
@@ -61,6 +116,70 @@ public abstract class JACSRecyclerViewAdapterAdvanced<T, L, VH extends JACSViewH
         T item = items.get(position);
         holder.position = position;
         holder.onBind(item, listener);
+
+        boolean isReused = holder.hasBeenBound;
+        holder.hasBeenBound = true;
+        if (adaptivePoolManager != null) {
+            adaptivePoolManager.onBound(holder.getItemViewType(), isReused);
+        }
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        attachedRecyclerView = recyclerView;
+        if (adaptivePoolManager != null) {
+            adaptivePoolManager.attach(recyclerView);
+        }
+        for (JACSItemValueService<T, ?> service : itemValueServices) {
+            service.attach(recyclerView);
+        }
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        if (attachedRecyclerView == recyclerView) {
+            attachedRecyclerView = null;
+            frameBudgetApplier.flush();
+            if (adaptivePoolManager != null) {
+                adaptivePoolManager.detach();
+            }
+            for (JACSItemValueService<T, ?> service : itemValueServices) {
+                service.detach();
+            }
+        }
+    }
+
+    @Override
+    public void onViewAttachedToWindow(@NonNull VH holder) {
+        super.onViewAttachedToWindow(holder);
+        if (adaptivePoolManager != null) {
+            adaptivePoolManager.onAttached(holder.getItemViewType());
+        }
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(@NonNull VH holder) {
+        super.onViewDetachedFromWindow(holder);
+        holder.onDetachedFromWindow();
+        if (adaptivePoolManager != null) {
+            adaptivePoolManager.onDetached(holder.getItemViewType());
+        }
+    }
+
+    /**
+     * Called by RecyclerView when a view created by this adapter has been recycled.
+     *
+     * @param holder The ViewHolder for the view being recycled
+     */
+    @Override
+    public void onViewRecycled(@NonNull VH holder) {
+        super.onViewRecycled(holder);
+        holder.onRecycled();
+        if (adaptivePoolManager != null) {
+            adaptivePoolManager.onRecycled(holder.getItemViewType());
+        }
     }
 
     /**
@@ -80,12 +199,17 @@ public abstract class JACSRecyclerViewAdapterAdvanced<T, L, VH extends JACSViewH
      * @throws IllegalArgumentException in case of setting `null` mData
      */
     public void setItems(List<T> items) {
-        if (items == null) {
-            throw new IllegalArgumentException("Cannot set `null` item to the Recycler adapter");
+        if (stateRestorer.consumeRestoredSource(items)) {
+            // Already applied by restoreState(), i.e. data binding setting the same list again
+            return;
+        }
+        if (isOverFrameBudgetThreshold(items)) {
+            JACSListStore<T> store = listStoreForReplace();
+            JACSListSnapshot anchor = stateRestorer.captureAnchor(attachedRecyclerView, items.size(), 0);
+            stateRestorer.applyAroundAnchor(attachedRecyclerView, store, items, anchor, restoreWindowSize, frameBudgetApplier, frameBudgetApplier.getFrameBudgetNanos());
+            return;
         }
-        this.items.clear();
-        this.items.addAll(items);
-        notifyDataSetChanged();
+        listStoreForReplace().setAll(items);
     }
 
     /**
@@ -113,11 +237,7 @@ public abstract class JACSRecyclerViewAdapterAdvanced<T, L, VH extends JACSViewH
      * @param item item which has to be added to the adapter.
      */
     public void addItem(T item) {
-        if (item == null) {
-            throw new IllegalArgumentException("Cannot add null item to the Recycler adapter");
-        }
-        items.add(item);
-        notifyItemInserted(items.size() - 1);
+        listStore().add(item);
     }
 
     /**
@@ -127,19 +247,21 @@ public abstract class JACSRecyclerViewAdapterAdvanced<T, L, VH extends JACSViewH
      * @param items mData which has to be added to the adapter.
      */
     public void addAll(List<T> items) {
-        if (items == null) {
-            throw new IllegalArgumentException("Cannot add `null` mData to the Recycler adapter");
+        if (isOverFrameBudgetThreshold(items)) {
+            frameBudgetApplier.start(JACSChunkedApply.append(listStore(), items, JACSClock.SYSTEM), frameBudgetApplier.getFrameBudgetNanos(), attachedRecyclerView);
+            return;
         }
-        this.items.addAll(items);
-        notifyItemRangeInserted(this.items.size() - items.size(), items.size());
+        listStore().addAll(items);
     }
 
     /**
      * Clears all the mData in the adapter.
      */
     public void clearData() {
-        items.clear();
-        notifyDataSetChanged();
+        listStoreForReplace().clear();
+        for (JACSItemValueService<T, ?> service : itemValueServices) {
+            service.invalidateAll();
+        }
     }
 
     /**
@@ -149,11 +271,195 @@ public abstract class JACSRecyclerViewAdapterAdvanced<T, L, VH extends JACSViewH
      * @param item to be removed
      */
     public void removeItem(T item) {
-        int position = items.indexOf(item);
-        if (position > -1) {
-            items.remove(position);
-            notifyItemRemoved(position);
+        if (listStore().remove(item) > -1) {
+            for (JACSItemValueService<T, ?> service : itemValueServices) {
+                service.invalidate(item);
+            }
+        }
+    }
+
+    /**
+     * Replaces the item at a position.
+     * Notifies that item has been changed.
+     *
+     * @param position position of the item to replace
+     * @param item     the new item
+     */
+    public void updateItem(int position, T item) {
+        T previous = listStore().set(position, item);
+        for (JACSItemValueService<T, ?> service : itemValueServices) {
+            service.invalidate(previous);
+        }
+    }
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #endBatchUpdate()} is called, consecutive changes made with
+     * the methods of this adapter are merged and the RecyclerView is notified once, i.e. many `addItem` calls in a row
+     * result in a single `notifyItemRangeInserted`.
+     */
+    public void beginBatchUpdate() {
+        listStore().beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started with {@link #beginBatchUpdate()} and notifies the RecyclerView of the merged changes.
+     */
+    public void endBatchUpdate() {
+        listStore().endBatch();
+    }
+
+    /**
+     * Captures the position of the RecyclerView and the identity of the items in this adapter, so it can be restored
+     * with {@link #restoreState(RecyclerView, List, JACSListSnapshot)} when the view is re-created.
+     * <p></p>
+     * Call this before the view is destroyed (i.e. in onDestroyView) and keep the snapshot in the ViewModel with `saveListSnapshot`.
+     *
+     * @param recyclerView The RecyclerView this adapter is attached to, it must use a LinearLayoutManager or a subclass of it
+     * @return A snapshot of the list
+     */
+    public JACSListSnapshot captureState(RecyclerView recyclerView) {
+        return stateRestorer.capture(recyclerView, listStore().getItems(), itemIdProvider);
+    }
+
+    /**
+     * Sets the data of the adapter and scrolls back to where the snapshot was taken.
+     * <p></p>
+     * If the data has the same items as when the snapshot was taken, only a window of items around the restored position
+     * is applied straight away so the first frame only binds what is visible. The rest of the items are added after that frame.
+     * Otherwise all of the data is set and the list starts at the top.
+     *
+     * @param recyclerView The RecyclerView this adapter is attached to
+     * @param data         The data to show
+     * @param snapshot     A snapshot from {@link #captureState(RecyclerView)}, or null
+     */
+    public void restoreState(RecyclerView recyclerView, List<T> data, @Nullable JACSListSnapshot snapshot) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot set `null` item to the Recycler adapter");
         }
+        stateRestorer.restore(recyclerView, listStoreForReplace(), data, snapshot, itemIdProvider, restoreWindowSize, frameBudgetApplier);
+    }
+
+    /**
+     * Spreads large data changes over several frames so they never block the main thread for longer than the budget.
+     * <p></p>
+     * When set, {@link #setItems(List)} and {@link #addAll(List)} calls with at least `minItemCount` items are applied in chunks,
+     * one step per frame. Items around the visible ones are applied first and the rest are filled in on the following frames.
+     * getItemCount() always matches what the RecyclerView has been told, and any other change made to the adapter while
+     * items are still being applied completes the pending items first, except for setting new data or clearing the
+     * adapter, which drop them.
+     *
+     * @param frameBudgetNanos The time each frame may spend applying data, i.e. 4ms, or 0 to turn this off
+     * @param minItemCount     The number of items a change needs before it is spread over frames
+     */
+    public void setFrameBudget(long frameBudgetNanos, int minItemCount) {
+        frameBudgetApplier.setFrameBudgetNanos(Math.max(0, frameBudgetNanos));
+        frameBudgetMinItemCount = minItemCount;
+    }
+
+    /**
+     * Set a listener that is told about the progress of data being applied over several frames and the cost of each frame.
+     *
+     * @param listener progress listener
+     */
+    public void setApplyProgressListener(@Nullable JACSOnApplyProgressListener listener) {
+        frameBudgetApplier.setProgressListener(listener);
+    }
+
+    /**
+     * Lets the adapter size the RecyclerView's pool of recycled ViewHolders per view type from how the list is used,
+     * instead of keeping 5 of each. View types that keep being inflated again while scrolling get a bigger pool and
+     * every pool shrinks when memory runs low. See {@link JACSAdaptivePoolManager}.
+     * <p></p>
+     * Don't enable this for adapters that share a RecycledViewPool, such as the inner adapters of carousels. Disabling it
+     * puts every view type it sized back to 5.
+     *
+     * @param enabled whether to size the pool adaptively
+     */
+    public void setAdaptivePoolSizing(boolean enabled) {
+        if (adaptivePoolManager != null) {
+            adaptivePoolManager.resetPoolSizes();
+            adaptivePoolManager.detach();
+            adaptivePoolManager = null;
+        }
+        if (enabled) {
+            adaptivePoolManager = new JACSAdaptivePoolManager(layoutInflater.getContext(), new JACSPoolSizer());
+            if (attachedRecyclerView != null) {
+                adaptivePoolManager.attach(attachedRecyclerView);
+            }
+        }
+    }
+
+    /**
+     * Creates a cache for values derived from the items of this adapter, i.e. formatted dates or PrecomputedText, which
+     * ViewHolders can read synchronously in onBind. Values for rows about to scroll into view are computed in the
+     * background, and values are dropped when their item is removed or updated through this adapter.
+     * See {@link JACSItemValueService}.
+     *
+     * @param idProvider Returns the id of an item, which must be unique to the item and must not change with its content
+     * @param computer   Computes a value for an item and reports its size
+     * @param maxBytes   The maximum number of bytes of values to keep
+     * @return The new service, pass it to your ViewHolders
+     */
+    public <V> JACSItemValueService<T, V> createItemValueService(JACSItemIdProvider<T> idProvider,
+                                                                JACSValueComputer<T, V> computer, int maxBytes) {
+        JACSItemValueService<T, V> service = new JACSItemValueService<>(itemValueSource, idProvider, computer, maxBytes);
+        itemValueServices.add(service);
+        if (attachedRecyclerView != null) {
+            service.attach(attachedRecyclerView);
+        }
+        return service;
+    }
+
+    /**
+     * Returns the manager sizing the pool of recycled ViewHolders, use it to read the statistics per view type.
+     *
+     * @return The manager, or null if adaptive pool sizing is not enabled
+     */
+    @Nullable
+    public JACSAdaptivePoolManager getAdaptivePoolManager() {
+        return adaptivePoolManager;
+    }
+
+    /**
+     * Returns whether data is still being applied over several frames.
+     *
+     * @return `true` if some of the data has not been applied yet
+     */
+    public boolean isApplyingData() {
+        return frameBudgetApplier.isApplying();
+    }
+
+    /**
+     * Sets the number of items applied first by {@link #restoreState(RecyclerView, List, JACSListSnapshot)} and by data
+     * applied with a frame budget, this should be larger than the number of items that fit on the screen.
+     *
+     * @param restoreWindowSize number of items to restore before the first frame
+     */
+    public void setRestoreWindowSize(int restoreWindowSize) {
+        this.restoreWindowSize = restoreWindowSize;
+    }
+
+    /**
+     * Returns an id for an item that stays the same for as long as it is the same item, used to tell whether a
+     * snapshot still matches the data. Defaults to the item's hashCode, override this if your items have an id.
+     *
+     * @param item item to return the id of
+     * @return A stable id for the item
+     */
+    protected long getItemStableId(T item) {
+        return item.hashCode();
+    }
+
+    /**
+     * Returns a version for an item that changes whenever the item's content changes, used to tell whether a value cached
+     * by a {@link JACSItemValueService} for the item's id is still valid. Defaults to the item's hashCode, so items need a
+     * content based hashCode, override this if your items have an updated-at time or revision.
+     *
+     * @param item item to return the version of
+     * @return The version of the item
+     */
+    protected long getItemVersion(T item) {
+        return item.hashCode();
     }
 
     /**
@@ -174,6 +480,36 @@ public abstract class JACSRecyclerViewAdapterAdvanced<T, L, VH extends JACSViewH
         this.listener = listener;
     }
 
+    private boolean isOverFrameBudgetThreshold(List<T> data) {
+        return data != null && frameBudgetApplier.getFrameBudgetNanos() > 0 && data.size() >= frameBudgetMinItemCount;
+    }
+
+    /**
+     * Returns the store that applies changes to the data set held by the adapter.
+     * The store is moved to the new list if a subclass has replaced the list, i.e. with `this.items = data`.
+     * Any items still waiting to be applied over several frames are added first, so changes apply to the complete list.
+     */
+    private JACSListStore<T> listStore() {
+        frameBudgetApplier.flush();
+        stateRestorer.forgetRestoredSource();
+        if (listStore == null) {
+            listStore = new JACSListStore<>(items, listUpdateCallback);
+        } else if (listStore.getItems() != items) {
+            // Keeps a batch started with beginBatchUpdate() going
+            listStore.setItems(items);
+        }
+        return listStore;
+    }
+
+    /**
+     * Returns the store for a change that replaces every item. Items still waiting to be applied over several frames are
+     * dropped instead of being added first, as they would be replaced straight away.
+     */
+    private JACSListStore<T> listStoreForReplace() {
+        frameBudgetApplier.cancel();
+        return listStore();
+    }
+
     /**
      * Inflates a view.
      *
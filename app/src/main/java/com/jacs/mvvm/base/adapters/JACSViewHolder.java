@@ -11,6 +11,7 @@ import com.jacs.mvvm.interfaces.JACSOnRecyclerViewItemClicked;
 public abstract class JACSViewHolder<T> extends RecyclerView.ViewHolder {
 
     public int position;
+    boolean hasBeenBound = false;
 
     public JACSViewHolder(@NonNull View itemView) {
         super(itemView);
@@ -24,4 +25,16 @@ public abstract class JACSViewHolder<T> extends RecyclerView.ViewHolder {
      */
     public abstract void onBind(T item, @Nullable JACSOnRecyclerViewItemClicked<T> listener);
 
+    /**
+     * Called when this ViewHolder has been recycled by the RecyclerView. Override this to release resources or save state
+     * associated with the item that was bound to it.
+     */
+    public void onRecycled() {}
+
+    /**
+     * Called when the view of this ViewHolder is about to be detached from the window, i.e. it has scrolled off screen,
+     * while its child views are still in place. Override this to save view state such as a scroll position.
+     */
+    public void onDetachedFromWindow() {}
+
 }
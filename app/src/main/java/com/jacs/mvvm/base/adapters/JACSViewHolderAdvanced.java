@@ -11,6 +11,7 @@ import com.jacs.mvvm.interfaces.JACSOnRecyclerViewItemClicked;
 public abstract class JACSViewHolderAdvanced<T, L> extends RecyclerView.ViewHolder {
 
     public int position;
+    boolean hasBeenBound = false;
 
     public JACSViewHolderAdvanced(@NonNull View itemView) {
         super(itemView);
@@ -23,4 +24,16 @@ public abstract class JACSViewHolderAdvanced<T, L> extends RecyclerView.ViewHold
      */
     public abstract void onBind(T item, @Nullable JACSOnRecyclerViewItemClicked<L> listener);
 
+    /**
+     * Called when this ViewHolder has been recycled by the RecyclerView. Override this to release resources or save state
+     * associated with the item that was bound to it.
+     */
+    public void onRecycled() {}
+
+    /**
+     * Called when the view of this ViewHolder is about to be detached from the window, i.e. it has scrolled off screen,
+     * while its child views are still in place. Override this to save view state such as a scroll position.
+     */
+    public void onDetachedFromWindow() {}
+
 }
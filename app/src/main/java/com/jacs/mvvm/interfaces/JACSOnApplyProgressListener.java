@@ -0,0 +1,11 @@
+package com.jacs.mvvm.interfaces;
+
+import com.jacs.mvvm.core.list.JACSChunkedApply;
+
+public interface JACSOnApplyProgressListener {
+    /**
+     * Called after every frame in which part of a large data set was applied, and once more when it is done.
+     * Use apply.getAppliedCount() and apply.getTotalCount() for the progress and apply.getLastStepNanos() for the cost of the frame.
+     */
+    void onApplyProgress(JACSChunkedApply<?> apply);
+}
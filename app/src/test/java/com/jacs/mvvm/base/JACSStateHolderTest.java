@@ -0,0 +1,107 @@
+package com.jacs.mvvm.base;
+
+import androidx.arch.core.executor.testing.InstantTaskExecutorRule;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+
+import com.jacs.mvvm.core.state.JACSEquality;
+import com.jacs.mvvm.core.state.JACSSelector;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JACSStateHolderTest {
+
+    @Rule
+    public InstantTaskExecutorRule instantTaskExecutorRule = new InstantTaskExecutorRule();
+
+    private static class State {
+        final String title;
+        final long tick;
+
+        State(String title, long tick) {
+            this.title = title;
+            this.tick = tick;
+        }
+    }
+
+    private static class CountingObserver<T> implements Observer<T> {
+        int executions;
+
+        @Override
+        public void onChanged(T value) {
+            executions++;
+        }
+    }
+
+    private static final JACSSelector<State, String> TITLE = new JACSSelector<State, String>() {
+        @Override
+        public String select(State state) {
+            return new String(state.title);
+        }
+    };
+
+    private static final JACSSelector<State, Long> TICK = new JACSSelector<State, Long>() {
+        @Override
+        public Long select(State state) {
+            return state.tick;
+        }
+    };
+
+    @Test
+    public void select_noisyUpstreamOnlyRebindsChangedFields() {
+        JACSStateHolder<State> holder = new JACSStateHolder<>(new State("title 0", 0));
+        CountingObserver<State> wholeStateBinding = new CountingObserver<>();
+        CountingObserver<String> titleBinding = new CountingObserver<>();
+        CountingObserver<Long> tickBinding = new CountingObserver<>();
+        holder.getStateLiveData().observeForever(wholeStateBinding);
+        holder.select(TITLE).observeForever(titleBinding);
+        holder.select(TICK).observeForever(tickBinding);
+
+        for (int tick = 1; tick <= 100; tick++) {
+            holder.setState(new State("title " + (tick / 50), tick));
+        }
+
+        assertEquals(101, wholeStateBinding.executions);
+        assertEquals(101, tickBinding.executions);
+        // The initial value, then once when the title changes at tick 50
+        assertEquals(2, titleBinding.executions);
+    }
+
+    @Test
+    public void select_repostingSameStateDoesNotRebind() {
+        State state = new State("title", 0);
+        JACSStateHolder<State> holder = new JACSStateHolder<>(state);
+        CountingObserver<Long> tickBinding = new CountingObserver<>();
+        holder.select(TICK, JACSEquality.IDENTITY).observeForever(tickBinding);
+
+        holder.setState(state);
+        holder.setState(state);
+
+        assertEquals(1, tickBinding.executions);
+    }
+
+    @Test
+    public void select_identityEqualityRebindsForNewInstances() {
+        JACSStateHolder<State> holder = new JACSStateHolder<>(new State("title", 0));
+        CountingObserver<String> titleBinding = new CountingObserver<>();
+        holder.select(TITLE, JACSEquality.IDENTITY).observeForever(titleBinding);
+
+        holder.setState(new State("title", 1));
+
+        assertEquals(2, titleBinding.executions);
+    }
+
+    @Test
+    public void select_hasCurrentValue() {
+        JACSStateHolder<State> holder = new JACSStateHolder<>(new State("title", 0));
+        LiveData<String> title = holder.select(TITLE);
+        title.observeForever(new CountingObserver<String>());
+
+        holder.setState(new State("changed", 1));
+
+        assertEquals("changed", title.getValue());
+    }
+}
@@ -0,0 +1,88 @@
+package com.jacs.mvvm.benchmark;
+
+import com.jacs.mvvm.core.list.JACSItemIdProvider;
+import com.jacs.mvvm.core.list.JACSListSnapshot;
+import com.jacs.mvvm.core.list.JACSListStore;
+import com.jacs.mvvm.core.list.JACSListUpdateCallback;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks the data work done before the first restored frame of an adapter: applying every item compared with
+ * checking the snapshot and applying only the window around the anchor.
+ * <p></p>
+ * This does not include layout and binding, which need a device.
+ */
+@State(Scope.Thread)
+public class JACSListRestoreBenchmark {
+
+    private static final int WINDOW_SIZE = 50;
+
+    private static final JACSItemIdProvider<Long> ID = new JACSItemIdProvider<Long>() {
+        @Override
+        public long getItemId(Long item) {
+            return item;
+        }
+    };
+
+    private static final JACSListUpdateCallback NO_OP = new JACSListUpdateCallback() {
+        @Override
+        public void onInserted(int position, int count) {}
+
+        @Override
+        public void onRemoved(int position, int count) {}
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {}
+
+        @Override
+        public void onChanged(int position, int count) {}
+
+        @Override
+        public void onDataSetChanged() {}
+    };
+
+    @Param({"10000"})
+    public int size;
+
+    private List<Long> data;
+    private JACSListSnapshot snapshot;
+    private JACSListStore<Long> store;
+
+    @Setup(Level.Trial)
+    public void createData() {
+        data = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            data.add(i);
+        }
+        snapshot = new JACSListSnapshot(size, JACSListSnapshot.fingerprintOf(data, ID), size / 2, -40);
+        store = new JACSListStore<>(new ArrayList<Long>(), NO_OP);
+    }
+
+    @Benchmark
+    public long captureSnapshot() {
+        return JACSListSnapshot.fingerprintOf(data, ID);
+    }
+
+    @Benchmark
+    public int fullApply() {
+        store.setAll(data);
+        return store.size();
+    }
+
+    @Benchmark
+    public int windowedRestore() {
+        if (snapshot.matches(data, ID)) {
+            store.setAll(data.subList(snapshot.getWindowStart(WINDOW_SIZE), snapshot.getWindowEnd(WINDOW_SIZE)));
+        }
+        return store.size();
+    }
+}
@@ -0,0 +1,125 @@
+package com.jacs.mvvm.benchmark;
+
+import com.jacs.mvvm.core.list.JACSListStore;
+import com.jacs.mvvm.core.list.JACSListUpdateCallback;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmarks for the list operations behind `setmData`, `addAll`, `addItem` and `removeItem` of the adapters.
+ * <p></p>
+ * The notifications go to a callback that only counts them, so the numbers cover the data operations on their own.
+ * Benchmarks that change the size of the store undo their change straight after, so every call does the same work
+ * without resetting the store before each call, which would cost more than the smaller operations themselves. The undo
+ * is part of the score and the benchmark names say what it is.
+ */
+@State(Scope.Thread)
+public class JACSListStoreBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<String> source;
+    private List<String> backing;
+    private JACSListStore<String> store;
+    private CountingCallback callback;
+
+    @Setup(Level.Trial)
+    public void createSource() {
+        source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source.add("item " + i);
+        }
+        backing = new ArrayList<>(source);
+        callback = new CountingCallback();
+        store = new JACSListStore<>(backing, callback);
+    }
+
+    @Benchmark
+    public int setAll() {
+        store.setAll(source);
+        return store.size() + callback.events;
+    }
+
+    @Benchmark
+    public int addAllAndTrim() {
+        store.addAll(source);
+        trimTo(size);
+        return store.size() + callback.events;
+    }
+
+    @Benchmark
+    public int removeAndReinsertMiddleItem() {
+        String item = source.get(size / 2);
+        int position = store.remove(item);
+        store.insertAll(position, Collections.singletonList(item));
+        return position + callback.events;
+    }
+
+    @Benchmark
+    public int removeAndAddLastItem() {
+        String item = source.get(size - 1);
+        int position = store.remove(item);
+        store.add(item);
+        return position + callback.events;
+    }
+
+    @Benchmark
+    public int addItemsInBatchAndTrim() {
+        store.beginBatch();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            store.add(source.get(i));
+        }
+        store.endBatch();
+        trimTo(size);
+        return store.size() + callback.events;
+    }
+
+    /**
+     * Removes the items added past `newSize` straight from the backing list, without notifying the callback.
+     */
+    private void trimTo(int newSize) {
+        backing.subList(newSize, backing.size()).clear();
+    }
+
+    private static class CountingCallback implements JACSListUpdateCallback {
+
+        int events;
+
+        @Override
+        public void onInserted(int position, int count) {
+            events += count;
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            events += count;
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            events++;
+        }
+
+        @Override
+        public void onChanged(int position, int count) {
+            events += count;
+        }
+
+        @Override
+        public void onDataSetChanged() {
+            events++;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.jacs.mvvm.core;
+
+/**
+ * A source of monotonic time, so code that measures time can be tested with a fake clock.
+ */
+public interface JACSClock {
+
+    /**
+     * The system's monotonic clock, {@link System#nanoTime()}.
+     */
+    JACSClock SYSTEM = new JACSClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    };
+
+    long nanoTime();
+}
@@ -0,0 +1,109 @@
+package com.jacs.mvvm.core.cache;
+
+/**
+ * Caches one derived value per item, keyed by the item's stable id and checked against its version, bounded by the
+ * total number of bytes held by the values and evicting the least recently used first.
+ * <p></p>
+ * A value cached for an older version of an item is never returned, so changing an item only needs a new version.
+ * Safe to use from several threads.
+ *
+ * @param <V> Type of the cached values
+ */
+public class JACSItemValueCache<V> {
+
+    private static final class Entry<V> {
+        final long version;
+        final V value;
+        final int size;
+
+        Entry(long version, V value, int size) {
+            this.version = version;
+            this.value = value;
+            this.size = size;
+        }
+    }
+
+    private final JACSLruCache<Long, Entry<V>> entries;
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * @param maxBytes The maximum number of bytes held by the cached values
+     */
+    public JACSItemValueCache(int maxBytes) {
+        entries = new JACSLruCache<Long, Entry<V>>(maxBytes) {
+            @Override
+            protected int sizeOf(Long key, Entry<V> entry) {
+                return entry.size;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for this version of the item, or null.
+     */
+    public V get(long id, long version) {
+        Entry<V> entry = entries.get(id);
+        boolean isHit = entry != null && entry.version == version;
+        synchronized (this) {
+            if (isHit) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+        }
+        return isHit ? entry.value : null;
+    }
+
+    /**
+     * Returns whether a value is cached for this version of the item, without counting as a hit or miss.
+     */
+    public boolean contains(long id, long version) {
+        Entry<V> entry = entries.get(id);
+        return entry != null && entry.version == version;
+    }
+
+    /**
+     * Caches the value for a version of an item, replacing any value cached for another version.
+     *
+     * @param sizeInBytes The approximate number of bytes held by the value
+     */
+    public void put(long id, long version, V value, int sizeInBytes) {
+        entries.put(id, new Entry<>(version, value, sizeInBytes));
+    }
+
+    public void invalidate(long id) {
+        entries.remove(id);
+    }
+
+    public void invalidateAll() {
+        entries.evictAll();
+    }
+
+    /**
+     * Returns the number of bytes held by the cached values.
+     */
+    public int sizeInBytes() {
+        return entries.size();
+    }
+
+    public int maxSizeInBytes() {
+        return entries.maxSize();
+    }
+
+    public int count() {
+        return entries.count();
+    }
+
+    public synchronized int hitCount() {
+        return hitCount;
+    }
+
+    public synchronized int missCount() {
+        return missCount;
+    }
+
+    public int evictionCount() {
+        return entries.evictionCount();
+    }
+}
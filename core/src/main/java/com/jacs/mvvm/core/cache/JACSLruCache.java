@@ -0,0 +1,158 @@
+package com.jacs.mvvm.core.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache that evicts the least recently used entries once the total size of its entries goes over `maxSize`.
+ * <p></p>
+ * By default every entry has a size of 1, so `maxSize` is the maximum number of entries. Override
+ * {@link #sizeOf(Object, Object)} to bound the cache by something else, i.e. the number of bytes held by each value.
+ * All methods are synchronized so the cache can be shared between the main thread and background threads.
+ *
+ * @param <K> Type of the keys
+ * @param <V> Type of the values
+ */
+public class JACSLruCache<K, V> {
+
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxSize;
+    private int size;
+    private int hitCount;
+    private int missCount;
+    private int evictionCount;
+
+    /**
+     * @param maxSize The maximum total size of the entries, measured with {@link #sizeOf(Object, Object)}
+     */
+    public JACSLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the value for `key` and marks it as the most recently used, or null if it is not cached.
+     */
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return value;
+    }
+
+    /**
+     * Caches `value` for `key`, evicting the least recently used entries if the cache goes over its maximum size.
+     * A value that is bigger than the maximum size on its own is not cached and leaves the other entries in place, but
+     * still removes the value previously cached for `key`, as it is out of date.
+     *
+     * @return The value previously cached for `key`, or null
+     */
+    public synchronized V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Cannot cache a `null` key or value");
+        }
+        if (safeSizeOf(key, value) > maxSize) {
+            return remove(key);
+        }
+        V previous = entries.put(key, value);
+        size += safeSizeOf(key, value);
+        if (previous != null) {
+            size -= safeSizeOf(key, previous);
+            onEntryRemoved(key, previous, false);
+        }
+        trimToSize(maxSize);
+        return previous;
+    }
+
+    /**
+     * Removes the entry for `key` if there is one.
+     *
+     * @return The removed value, or null
+     */
+    public synchronized V remove(K key) {
+        V previous = entries.remove(key);
+        if (previous != null) {
+            size -= safeSizeOf(key, previous);
+            onEntryRemoved(key, previous, false);
+        }
+        return previous;
+    }
+
+    /**
+     * Evicts the least recently used entries until the total size is at most `targetSize`.
+     */
+    public synchronized void trimToSize(int targetSize) {
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (size > targetSize && iterator.hasNext()) {
+            Map.Entry<K, V> eldest = iterator.next();
+            iterator.remove();
+            size -= safeSizeOf(eldest.getKey(), eldest.getValue());
+            evictionCount++;
+            onEntryRemoved(eldest.getKey(), eldest.getValue(), true);
+        }
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public synchronized void evictAll() {
+        trimToSize(-1);
+    }
+
+    /**
+     * Returns the total size of the cached entries, measured with {@link #sizeOf(Object, Object)}.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public synchronized int hitCount() {
+        return hitCount;
+    }
+
+    public synchronized int missCount() {
+        return missCount;
+    }
+
+    public synchronized int evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the size of an entry. The size of an entry must not change while it is cached.
+     * <p></p>
+     * Override this to bound the cache by something other than the number of entries.
+     */
+    protected int sizeOf(K key, V value) {
+        return 1;
+    }
+
+    /**
+     * Called when an entry is evicted, removed or replaced. Called while the cache is locked.
+     *
+     * @param evicted `true` if the entry was removed to make space, `false` if it was removed or replaced by a call
+     */
+    protected void onEntryRemoved(K key, V value, boolean evicted) {}
+
+    private int safeSizeOf(K key, V value) {
+        int entrySize = sizeOf(key, value);
+        if (entrySize < 0) {
+            throw new IllegalStateException("Negative size: " + key + "=" + value);
+        }
+        return entrySize;
+    }
+}
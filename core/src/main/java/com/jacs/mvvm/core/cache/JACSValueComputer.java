@@ -0,0 +1,19 @@
+package com.jacs.mvvm.core.cache;
+
+/**
+ * Computes a value derived from an item, i.e. formatted text or a measured text layout, and reports its size.
+ * <p></p>
+ * {@link #compute(Object)} may be called on a background thread, so it must only read the item and must not touch views.
+ *
+ * @param <T> Type of the items
+ * @param <V> Type of the derived values
+ */
+public interface JACSValueComputer<T, V> {
+
+    V compute(T item);
+
+    /**
+     * Returns the approximate number of bytes held by a value, used to bound the cache.
+     */
+    int sizeOf(V value);
+}
@@ -0,0 +1,78 @@
+package com.jacs.mvvm.core.concurrent;
+
+/**
+ * A snapshot of the metrics of one lane of a {@link JACSScheduler}.
+ */
+public final class JACSLaneStats {
+
+    private final JACSPriority priority;
+    private final int queueDepth;
+    private final int maxQueueDepth;
+    private final long completedCount;
+    private final long cancelledCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    JACSLaneStats(JACSPriority priority, int queueDepth, int maxQueueDepth, long completedCount, long cancelledCount,
+                  long totalWaitNanos, long maxWaitNanos) {
+        this.priority = priority;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.completedCount = completedCount;
+        this.cancelledCount = cancelledCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    public JACSPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the number of tasks waiting to run.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Returns the highest number of tasks that have been waiting to run at the same time.
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public long getCancelledCount() {
+        return cancelledCount;
+    }
+
+    /**
+     * Returns the average time tasks waited in the queue before they started running.
+     */
+    public long getAverageWaitNanos() {
+        return completedCount == 0 ? 0 : totalWaitNanos / completedCount;
+    }
+
+    /**
+     * Returns the longest time a task waited in the queue before it started running.
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "JACSLaneStats{" + priority
+                + ", queued=" + queueDepth
+                + ", maxQueued=" + maxQueueDepth
+                + ", completed=" + completedCount
+                + ", cancelled=" + cancelledCount
+                + ", avgWaitNanos=" + getAverageWaitNanos()
+                + ", maxWaitNanos=" + maxWaitNanos
+                + "}";
+    }
+}
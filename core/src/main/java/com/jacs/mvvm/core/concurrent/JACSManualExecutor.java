@@ -0,0 +1,50 @@
+package com.jacs.mvvm.core.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * An Executor that only runs work when told to, on the calling thread. Use it to test code that uses a
+ * {@link JACSScheduler} deterministically:
+ * <p></p>
+ * "JACSScheduler.setDefault(new JACSScheduler(executor, 1, JACSClock.SYSTEM)); ... executor.runAll();"
+ */
+public class JACSManualExecutor implements Executor {
+
+    private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+
+    @Override
+    public synchronized void execute(Runnable command) {
+        pending.add(command);
+    }
+
+    /**
+     * Runs the oldest pending work.
+     *
+     * @return `false` if there was nothing to run
+     */
+    public boolean runNext() {
+        Runnable next;
+        synchronized (this) {
+            next = pending.poll();
+        }
+        if (next == null) {
+            return false;
+        }
+        next.run();
+        return true;
+    }
+
+    /**
+     * Runs pending work, including work queued while running, until there is none left.
+     */
+    public void runAll() {
+        while (runNext()) {
+            // Keep going until the queue is empty
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+}
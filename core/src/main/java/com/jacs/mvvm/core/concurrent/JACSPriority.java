@@ -0,0 +1,23 @@
+package com.jacs.mvvm.core.concurrent;
+
+/**
+ * The lanes of a {@link JACSScheduler}, from the most to the least urgent. Work in a lane only runs when there is no
+ * queued work in the lanes before it.
+ */
+public enum JACSPriority {
+
+    /**
+     * Work the visible screen is waiting for, i.e. loading the data that is about to be shown.
+     */
+    VISIBLE,
+
+    /**
+     * Work for content that is likely to be shown soon, i.e. rows just outside of the visible area.
+     */
+    PREFETCH,
+
+    /**
+     * Work that only makes later screens faster, i.e. warming caches.
+     */
+    PREWARM
+}
@@ -0,0 +1,290 @@
+package com.jacs.mvvm.core.concurrent;
+
+import com.jacs.mvvm.core.JACSClock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs background work for ViewModels and adapters with priorities, on a limited number of threads.
+ * <p></p>
+ * The threads are sized for CPU work such as parsing, sorting or formatting. Work that blocks on the network or disk
+ * holds a thread while it waits and can keep every other lane from running, do it on the executor of the library that
+ * does the I/O and submit what is computed from its result here.
+ * <p></p>
+ * Tasks are queued in lanes by {@link JACSPriority}: work for the visible screen always starts before prefetch work,
+ * which always starts before prewarm work. Every task belongs to an owner (i.e. a ViewModel) and
+ * {@link #cancelAll(Object)} cancels all of its tasks when the owner goes away. At most `parallelism` tasks run at the
+ * same time, the threads themselves come from the given Executor so the scheduler can be tested with a
+ * {@link JACSManualExecutor}.
+ */
+public class JACSScheduler {
+
+    private static JACSScheduler defaultScheduler;
+
+    private final Executor executor;
+    private final int parallelism;
+    private final JACSClock clock;
+    private final Object lock = new Object();
+
+    private final PriorityQueue<JACSTask> queue = new PriorityQueue<>(16, new Comparator<JACSTask>() {
+        @Override
+        public int compare(JACSTask first, JACSTask second) {
+            int byPriority = first.priority.compareTo(second.priority);
+            return byPriority != 0 ? byPriority : Long.compare(first.sequence, second.sequence);
+        }
+    });
+    private final List<JACSTask> runningTasks = new ArrayList<>();
+    private long nextSequence = 0;
+    private int activeWorkers = 0;
+
+    private final int[] queueDepth = new int[JACSPriority.values().length];
+    private final int[] maxQueueDepth = new int[JACSPriority.values().length];
+    private final long[] completedCount = new long[JACSPriority.values().length];
+    private final long[] cancelledCount = new long[JACSPriority.values().length];
+    private final long[] totalWaitNanos = new long[JACSPriority.values().length];
+    private final long[] maxWaitNanos = new long[JACSPriority.values().length];
+
+    private final Runnable worker = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    /**
+     * @param executor    Runs the workers of the scheduler, it must be able to run `parallelism` of them at the same time
+     * @param parallelism The maximum number of tasks to run at the same time
+     * @param clock       Clock used to measure how long tasks wait in the queue
+     */
+    public JACSScheduler(Executor executor, int parallelism, JACSClock clock) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the scheduler shared by the whole app, creating it with {@link #createDefault()} the first time.
+     */
+    public static synchronized JACSScheduler getDefault() {
+        if (defaultScheduler == null) {
+            defaultScheduler = createDefault();
+        }
+        return defaultScheduler;
+    }
+
+    /**
+     * Replaces the shared scheduler, i.e. with one using a {@link JACSManualExecutor} in tests.
+     */
+    public static synchronized void setDefault(JACSScheduler scheduler) {
+        defaultScheduler = scheduler;
+    }
+
+    /**
+     * Creates a scheduler with one thread per core, leaving one core for the main and render threads, and never more
+     * than 4 so cheap devices with many slow cores are not oversubscribed.
+     */
+    public static JACSScheduler createDefault() {
+        int parallelism = defaultParallelism(Runtime.getRuntime().availableProcessors());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new WorkerThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return new JACSScheduler(executor, parallelism, JACSClock.SYSTEM);
+    }
+
+    static int defaultParallelism(int cores) {
+        return Math.max(1, Math.min(cores - 1, 4));
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Queues work to run in the background.
+     *
+     * @param owner    The object the work belongs to, used to cancel it with {@link #cancelAll(Object)}
+     * @param priority The lane to queue the work in
+     * @param work     The work to run
+     * @return The task, which can be used to cancel the work
+     */
+    public JACSTask submit(Object owner, JACSPriority priority, final Runnable work) {
+        if (work == null) {
+            throw new IllegalArgumentException("Cannot submit a task without an owner, priority and work");
+        }
+        return submit(owner, priority, new JACSTaskWork() {
+            @Override
+            public void run(JACSTask task) {
+                work.run();
+            }
+        });
+    }
+
+    /**
+     * Queues work to run in the background, which is given its task so it can check {@link JACSTask#isCancelled()}.
+     *
+     * @param owner    The object the work belongs to, used to cancel it with {@link #cancelAll(Object)}
+     * @param priority The lane to queue the work in
+     * @param work     The work to run
+     * @return The task, which can be used to cancel the work
+     */
+    public JACSTask submit(Object owner, JACSPriority priority, JACSTaskWork work) {
+        if (owner == null || priority == null || work == null) {
+            throw new IllegalArgumentException("Cannot submit a task without an owner, priority and work");
+        }
+        boolean startWorker = false;
+        JACSTask task;
+        synchronized (lock) {
+            task = new JACSTask(owner, priority, work, nextSequence++, clock.nanoTime());
+            queue.add(task);
+            int lane = priority.ordinal();
+            queueDepth[lane]++;
+            maxQueueDepth[lane] = Math.max(maxQueueDepth[lane], queueDepth[lane]);
+            if (activeWorkers < parallelism) {
+                activeWorkers++;
+                startWorker = true;
+            }
+        }
+        if (startWorker) {
+            executor.execute(worker);
+        }
+        return task;
+    }
+
+    /**
+     * Cancels every queued and running task of an owner. Queued tasks are dropped, running tasks are flagged as cancelled.
+     *
+     * @param owner The owner the tasks were submitted with
+     */
+    public void cancelAll(Object owner) {
+        synchronized (lock) {
+            Iterator<JACSTask> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                JACSTask task = iterator.next();
+                if (task.owner == owner) {
+                    iterator.remove();
+                    onRemovedFromQueue(task);
+                    task.cancel();
+                    task.markDone();
+                    cancelledCount[task.priority.ordinal()]++;
+                }
+            }
+            for (JACSTask task : runningTasks) {
+                if (task.owner == owner) {
+                    task.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the metrics of a lane.
+     */
+    public JACSLaneStats getStats(JACSPriority priority) {
+        int lane = priority.ordinal();
+        synchronized (lock) {
+            return new JACSLaneStats(priority, queueDepth[lane], maxQueueDepth[lane], completedCount[lane],
+                    cancelledCount[lane], totalWaitNanos[lane], maxWaitNanos[lane]);
+        }
+    }
+
+    /**
+     * Returns the number of tasks waiting to run in every lane.
+     */
+    public int getQueueDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            JACSTask task;
+            synchronized (lock) {
+                task = queue.poll();
+                if (task == null) {
+                    activeWorkers--;
+                    return;
+                }
+                onRemovedFromQueue(task);
+                if (task.isCancelled()) {
+                    task.markDone();
+                    cancelledCount[task.priority.ordinal()]++;
+                    continue;
+                }
+                long waited = clock.nanoTime() - task.enqueuedAtNanos;
+                int lane = task.priority.ordinal();
+                totalWaitNanos[lane] += waited;
+                maxWaitNanos[lane] = Math.max(maxWaitNanos[lane], waited);
+                runningTasks.add(task);
+            }
+
+            try {
+                task.work.run(task);
+            } catch (Throwable t) {
+                finish(task);
+                // Hand the failure to the thread like any other uncaught exception, after a new worker takes over the queue
+                restartWorkerIfNeeded();
+                Thread thread = Thread.currentThread();
+                Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+                if (handler != null) {
+                    handler.uncaughtException(thread, t);
+                }
+                return;
+            }
+            finish(task);
+        }
+    }
+
+    private void finish(JACSTask task) {
+        synchronized (lock) {
+            runningTasks.remove(task);
+            completedCount[task.priority.ordinal()]++;
+            task.markDone();
+        }
+    }
+
+    private void restartWorkerIfNeeded() {
+        boolean startWorker = false;
+        synchronized (lock) {
+            if (queue.isEmpty()) {
+                activeWorkers--;
+            } else {
+                startWorker = true;
+            }
+        }
+        if (startWorker) {
+            executor.execute(worker);
+        }
+    }
+
+    private void onRemovedFromQueue(JACSTask task) {
+        queueDepth[task.priority.ordinal()]--;
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "JACS-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            // Below the main thread, on Android this maps to THREAD_PRIORITY_BACKGROUND
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.jacs.mvvm.core.concurrent;
+
+/**
+ * A unit of work submitted to a {@link JACSScheduler}.
+ * <p></p>
+ * Cancelling a task that is queued stops it from running. A task that is already running is not interrupted, long
+ * running work should be submitted as a {@link JACSTaskWork}, which is given its task, and check {@link #isCancelled()}
+ * to stop early.
+ */
+public final class JACSTask {
+
+    final Object owner;
+    final JACSPriority priority;
+    final JACSTaskWork work;
+    final long sequence;
+    final long enqueuedAtNanos;
+    private volatile boolean isCancelled = false;
+    private volatile boolean isDone = false;
+
+    JACSTask(Object owner, JACSPriority priority, JACSTaskWork work, long sequence, long enqueuedAtNanos) {
+        this.owner = owner;
+        this.priority = priority;
+        this.work = work;
+        this.sequence = sequence;
+        this.enqueuedAtNanos = enqueuedAtNanos;
+    }
+
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Returns whether the task has finished running or was cancelled before it started.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public JACSPriority getPriority() {
+        return priority;
+    }
+
+    void markDone() {
+        isDone = true;
+    }
+}
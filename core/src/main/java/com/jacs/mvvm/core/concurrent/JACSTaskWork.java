@@ -0,0 +1,9 @@
+package com.jacs.mvvm.core.concurrent;
+
+/**
+ * Work submitted to a {@link JACSScheduler} that is given the task it runs as, so long running work can check
+ * {@link JACSTask#isCancelled()} and stop early.
+ */
+public interface JACSTaskWork {
+    void run(JACSTask task);
+}
@@ -0,0 +1,114 @@
+package com.jacs.mvvm.core.list;
+
+/**
+ * Wraps a {@link JACSListUpdateCallback} and merges consecutive changes of the same type into a single event.
+ * <p></p>
+ * Call {@link #dispatchLastEvent()} once the batch of changes is finished, otherwise the last event is never delivered.
+ * A {@link #onDataSetChanged()} inside a batch supersedes every other event of that batch.
+ */
+public class JACSBatchingListUpdateCallback implements JACSListUpdateCallback {
+
+    private static final int TYPE_NONE = 0;
+    private static final int TYPE_ADD = 1;
+    private static final int TYPE_REMOVE = 2;
+    private static final int TYPE_CHANGE = 3;
+
+    private final JACSListUpdateCallback wrapped;
+
+    private int lastEventType = TYPE_NONE;
+    private int lastEventPosition = -1;
+    private int lastEventCount = -1;
+    private boolean dataSetChanged = false;
+
+    public JACSBatchingListUpdateCallback(JACSListUpdateCallback wrapped) {
+        this.wrapped = wrapped;
+    }
+
+    /**
+     * Delivers the pending event, if there is one, to the wrapped callback.
+     */
+    public void dispatchLastEvent() {
+        if (dataSetChanged) {
+            dataSetChanged = false;
+            lastEventType = TYPE_NONE;
+            wrapped.onDataSetChanged();
+            return;
+        }
+        switch (lastEventType) {
+            case TYPE_ADD:
+                wrapped.onInserted(lastEventPosition, lastEventCount);
+                break;
+            case TYPE_REMOVE:
+                wrapped.onRemoved(lastEventPosition, lastEventCount);
+                break;
+            case TYPE_CHANGE:
+                wrapped.onChanged(lastEventPosition, lastEventCount);
+                break;
+        }
+        lastEventType = TYPE_NONE;
+    }
+
+    @Override
+    public void onInserted(int position, int count) {
+        if (dataSetChanged) {
+            return;
+        }
+        if (lastEventType == TYPE_ADD && position >= lastEventPosition && position <= lastEventPosition + lastEventCount) {
+            lastEventCount += count;
+            return;
+        }
+        dispatchLastEvent();
+        lastEventType = TYPE_ADD;
+        lastEventPosition = position;
+        lastEventCount = count;
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+        if (dataSetChanged) {
+            return;
+        }
+        if (lastEventType == TYPE_REMOVE && lastEventPosition >= position && lastEventPosition <= position + count) {
+            lastEventCount += count;
+            lastEventPosition = position;
+            return;
+        }
+        dispatchLastEvent();
+        lastEventType = TYPE_REMOVE;
+        lastEventPosition = position;
+        lastEventCount = count;
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition) {
+        if (dataSetChanged) {
+            return;
+        }
+        dispatchLastEvent();
+        wrapped.onMoved(fromPosition, toPosition);
+    }
+
+    @Override
+    public void onChanged(int position, int count) {
+        if (dataSetChanged) {
+            return;
+        }
+        if (lastEventType == TYPE_CHANGE
+                && !(position > lastEventPosition + lastEventCount || position + count < lastEventPosition)) {
+            int previousEnd = lastEventPosition + lastEventCount;
+            lastEventPosition = Math.min(position, lastEventPosition);
+            lastEventCount = Math.max(previousEnd, position + count) - lastEventPosition;
+            return;
+        }
+        dispatchLastEvent();
+        lastEventType = TYPE_CHANGE;
+        lastEventPosition = position;
+        lastEventCount = count;
+    }
+
+    @Override
+    public void onDataSetChanged() {
+        lastEventType = TYPE_NONE;
+        dataSetChanged = true;
+    }
+}
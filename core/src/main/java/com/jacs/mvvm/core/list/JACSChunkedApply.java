@@ -0,0 +1,188 @@
+package com.jacs.mvvm.core.list;
+
+import com.jacs.mvvm.core.JACSClock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies a large data set to a {@link JACSListStore} in chunks, a time budget at a time, so no single step blocks the
+ * thread for long.
+ * <p></p>
+ * When replacing the data, a window of items (i.e. the visible ones) is applied first, then the items before the window
+ * are inserted at the front and the items after it are appended. After every step the store holds a contiguous part of
+ * the new data and every change has been reported to its callback, so adapter positions stay consistent throughout.
+ * The size of each chunk adapts to the measured cost per item so a step stays close to its budget.
+ *
+ * @param <T> Type of the items
+ */
+public class JACSChunkedApply<T> {
+
+    private static final int INITIAL_CHUNK_SIZE = 256;
+    private static final int MIN_CHUNK_SIZE = 16;
+
+    private final JACSListStore<T> store;
+    private final List<T> data;
+    private final JACSClock clock;
+    private final int windowStart;
+    private final int windowEnd;
+
+    private boolean isWindowPending;
+    private int prefixEnd;
+    private int suffixNext;
+    private int appliedCount;
+    private int chunkSize = INITIAL_CHUNK_SIZE;
+
+    private int stepCount;
+    private long lastStepNanos;
+    private long maxStepNanos;
+    private long totalStepNanos;
+
+    private JACSChunkedApply(JACSListStore<T> store, List<T> data, JACSClock clock, boolean isReplacing, int windowStart, int windowEnd) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add `null` mData to the Recycler adapter");
+        }
+        if (windowStart < 0 || windowEnd > data.size() || windowStart > windowEnd) {
+            throw new IllegalArgumentException("Window [" + windowStart + ", " + windowEnd + ") is outside of " + data.size() + " items");
+        }
+        this.store = store;
+        // Copied so that changes made to the caller's list while the apply is running don't corrupt it
+        this.data = new ArrayList<>(data);
+        this.clock = clock;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.isWindowPending = isReplacing;
+        this.prefixEnd = windowStart;
+        this.suffixNext = windowEnd;
+    }
+
+    /**
+     * Creates an apply that replaces all of the items in the store, starting with the items in [windowStart, windowEnd).
+     */
+    public static <T> JACSChunkedApply<T> replace(JACSListStore<T> store, List<T> data, int windowStart, int windowEnd, JACSClock clock) {
+        return new JACSChunkedApply<>(store, data, clock, true, windowStart, windowEnd);
+    }
+
+    /**
+     * Creates an apply that adds the items to the end of the store.
+     */
+    public static <T> JACSChunkedApply<T> append(JACSListStore<T> store, List<T> data, JACSClock clock) {
+        return new JACSChunkedApply<>(store, data, clock, false, 0, 0);
+    }
+
+    /**
+     * Applies chunks until the budget is used up or everything has been applied. At least one chunk is always applied,
+     * so a budget of 0 only applies the window of a replace.
+     *
+     * @param budgetNanos Time this step may take
+     * @return `true` if everything has been applied
+     */
+    public boolean step(long budgetNanos) {
+        if (isDone()) {
+            return true;
+        }
+        long start = clock.nanoTime();
+        long elapsed;
+        do {
+            applyNextChunk(budgetNanos - (clock.nanoTime() - start));
+            elapsed = clock.nanoTime() - start;
+        } while (!isDone() && elapsed < budgetNanos);
+
+        stepCount++;
+        lastStepNanos = elapsed;
+        maxStepNanos = Math.max(maxStepNanos, elapsed);
+        totalStepNanos += elapsed;
+        return isDone();
+    }
+
+    /**
+     * Applies everything that is left straight away.
+     */
+    public void complete() {
+        step(Long.MAX_VALUE);
+    }
+
+    public boolean isDone() {
+        return !isWindowPending && prefixEnd == 0 && suffixNext == data.size();
+    }
+
+    private void applyNextChunk(long remainingNanos) {
+        if (isWindowPending) {
+            isWindowPending = false;
+            store.setAll(data.subList(windowStart, windowEnd));
+            appliedCount += windowEnd - windowStart;
+            return;
+        }
+
+        long chunkStart = clock.nanoTime();
+        int count;
+        if (prefixEnd > 0) {
+            count = Math.min(chunkSize, prefixEnd);
+            store.insertAll(0, data.subList(prefixEnd - count, prefixEnd));
+            prefixEnd -= count;
+        } else {
+            count = Math.min(chunkSize, data.size() - suffixNext);
+            store.addAll(data.subList(suffixNext, suffixNext + count));
+            suffixNext += count;
+        }
+        appliedCount += count;
+
+        long nanosPerItem = Math.max(1, (clock.nanoTime() - chunkStart) / Math.max(1, count));
+        long itemsInBudget = (remainingNanos - (clock.nanoTime() - chunkStart)) / nanosPerItem;
+        chunkSize = (int) Math.max(MIN_CHUNK_SIZE, Math.min(Integer.MAX_VALUE, itemsInBudget));
+    }
+
+    /**
+     * Returns the position in the store of the item at `dataPosition` in the new data, taking the items before the
+     * window that have not been inserted yet into account. Only meaningful for a replace.
+     */
+    public int toStorePosition(int dataPosition) {
+        return dataPosition - prefixEnd;
+    }
+
+    public JACSListStore<T> getStore() {
+        return store;
+    }
+
+    /**
+     * Returns the number of items of the new data that are in the store.
+     */
+    public int getAppliedCount() {
+        return appliedCount;
+    }
+
+    /**
+     * Returns the number of items being applied.
+     */
+    public int getTotalCount() {
+        return data.size();
+    }
+
+    /**
+     * Returns the number of steps taken so far, i.e. the number of frames.
+     */
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Returns how long the last step took.
+     */
+    public long getLastStepNanos() {
+        return lastStepNanos;
+    }
+
+    /**
+     * Returns how long the longest step took.
+     */
+    public long getMaxStepNanos() {
+        return maxStepNanos;
+    }
+
+    /**
+     * Returns the average time taken per step.
+     */
+    public long getAverageStepNanos() {
+        return stepCount == 0 ? 0 : totalStepNanos / stepCount;
+    }
+}
@@ -0,0 +1,10 @@
+package com.jacs.mvvm.core.list;
+
+/**
+ * Returns a stable id for an item, the same item must always return the same id.
+ *
+ * @param <T> Type of the items
+ */
+public interface JACSItemIdProvider<T> {
+    long getItemId(T item);
+}
@@ -0,0 +1,82 @@
+package com.jacs.mvvm.core.list;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A compact, immutable record of what a list was showing: a fingerprint of its items and the position and offset of
+ * the first visible item (the anchor).
+ * <p></p>
+ * A snapshot only restores onto data with the same fingerprint, so a list that has changed since the snapshot was
+ * taken is shown from the top instead of at a position that no longer means the same thing.
+ */
+public final class JACSListSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int itemCount;
+    private final long fingerprint;
+    private final int anchorPosition;
+    private final int anchorOffset;
+
+    public JACSListSnapshot(int itemCount, long fingerprint, int anchorPosition, int anchorOffset) {
+        this.itemCount = itemCount;
+        this.fingerprint = fingerprint;
+        this.anchorPosition = anchorPosition;
+        this.anchorOffset = anchorOffset;
+    }
+
+    /**
+     * Returns a fingerprint of the identity of the items in a list, taking their order into account.
+     *
+     * @param items      The items to fingerprint
+     * @param idProvider Returns the id of an item
+     * @return A fingerprint that changes when items are added, removed, replaced or moved
+     */
+    public static <T> long fingerprintOf(List<T> items, JACSItemIdProvider<T> idProvider) {
+        long hash = 1125899906842597L;
+        for (int i = 0, size = items.size(); i < size; i++) {
+            hash = 31 * hash + idProvider.getItemId(items.get(i));
+        }
+        return 31 * hash + items.size();
+    }
+
+    /**
+     * Returns whether this snapshot was taken of the given items.
+     */
+    public <T> boolean matches(List<T> items, JACSItemIdProvider<T> idProvider) {
+        return items.size() == itemCount && fingerprintOf(items, idProvider) == fingerprint;
+    }
+
+    /**
+     * Returns the first position of a window of `windowSize` items around the anchor. The window leaves a third of
+     * its items before the anchor so the list can be scrolled back a little before the rest has been filled in.
+     */
+    public int getWindowStart(int windowSize) {
+        int start = Math.max(0, anchorPosition - windowSize / 3);
+        return Math.max(0, Math.min(start, itemCount - windowSize));
+    }
+
+    /**
+     * Returns the position after the last one of a window of `windowSize` items around the anchor.
+     */
+    public int getWindowEnd(int windowSize) {
+        return Math.min(itemCount, getWindowStart(windowSize) + windowSize);
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public int getAnchorPosition() {
+        return anchorPosition;
+    }
+
+    public int getAnchorOffset() {
+        return anchorOffset;
+    }
+}
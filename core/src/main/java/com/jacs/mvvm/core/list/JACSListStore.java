@@ -0,0 +1,200 @@
+package com.jacs.mvvm.core.list;
+
+import java.util.List;
+
+/**
+ * Holds the data of a list adapter and reports every change made to it to a {@link JACSListUpdateCallback}.
+ * <p></p>
+ * This class has no Android dependencies so that the list operations of the adapters can be tested and benchmarked
+ * on the JVM. It is not thread safe, all calls are expected on the thread that owns the adapter.
+ *
+ * @param <T> Type of the items held by the list
+ */
+public class JACSListStore<T> {
+
+    private List<T> items;
+    private final JACSListUpdateCallback callback;
+    private final JACSBatchingListUpdateCallback batchingCallback;
+    private int batchDepth = 0;
+
+    /**
+     * @param items    The list that backs this store, it is mutated in place
+     * @param callback Callback that is told about every change made through this store
+     */
+    public JACSListStore(List<T> items, JACSListUpdateCallback callback) {
+        if (items == null) {
+            throw new IllegalArgumentException("Cannot create a list store without a backing list");
+        }
+        this.items = items;
+        this.callback = callback;
+        this.batchingCallback = new JACSBatchingListUpdateCallback(callback);
+    }
+
+    /**
+     * Returns the list that backs this store.
+     *
+     * @return The backing list
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Makes the store apply its changes to another list, i.e. when the list held by the adapter has been replaced.
+     * A batch in progress carries on; as the changes batched so far were made to the previous list, the batch reports a
+     * data set change when it ends instead.
+     *
+     * @param items The list that backs this store from now on, it is mutated in place
+     */
+    public void setItems(List<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException("Cannot create a list store without a backing list");
+        }
+        if (items == this.items) {
+            return;
+        }
+        this.items = items;
+        if (batchDepth > 0) {
+            batchingCallback.onDataSetChanged();
+        }
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public T get(int position) {
+        return items.get(position);
+    }
+
+    public int indexOf(T item) {
+        return items.indexOf(item);
+    }
+
+    /**
+     * Replaces all of the items in the store.
+     *
+     * @param newItems items to replace the current ones with
+     * @throws IllegalArgumentException in case of setting `null` items
+     */
+    public void setAll(List<T> newItems) {
+        if (newItems == null) {
+            throw new IllegalArgumentException("Cannot set `null` item to the Recycler adapter");
+        }
+        items.clear();
+        items.addAll(newItems);
+        dispatcher().onDataSetChanged();
+    }
+
+    /**
+     * Adds an item to the end of the store.
+     *
+     * @param item item to add
+     * @throws IllegalArgumentException in case of adding a `null` item
+     */
+    public void add(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot add null item to the Recycler adapter");
+        }
+        items.add(item);
+        dispatcher().onInserted(items.size() - 1, 1);
+    }
+
+    /**
+     * Adds a list of items to the end of the store.
+     *
+     * @param newItems items to add
+     * @throws IllegalArgumentException in case of adding `null` items
+     */
+    public void addAll(List<T> newItems) {
+        if (newItems == null) {
+            throw new IllegalArgumentException("Cannot add `null` mData to the Recycler adapter");
+        }
+        items.addAll(newItems);
+        dispatcher().onInserted(items.size() - newItems.size(), newItems.size());
+    }
+
+    /**
+     * Inserts a list of items at the given position.
+     *
+     * @param position position to insert the first item at
+     * @param newItems items to insert
+     * @throws IllegalArgumentException in case of inserting `null` items
+     */
+    public void insertAll(int position, List<T> newItems) {
+        if (newItems == null) {
+            throw new IllegalArgumentException("Cannot add `null` mData to the Recycler adapter");
+        }
+        items.addAll(position, newItems);
+        dispatcher().onInserted(position, newItems.size());
+    }
+
+    /**
+     * Replaces the item at the given position.
+     *
+     * @param position position of the item to replace
+     * @param item     the new item
+     * @return The item that was replaced
+     * @throws IllegalArgumentException in case of setting a `null` item
+     */
+    public T set(int position, T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Cannot set `null` item to the Recycler adapter");
+        }
+        T previous = items.set(position, item);
+        dispatcher().onChanged(position, 1);
+        return previous;
+    }
+
+    /**
+     * Removes the first occurrence of an item from the store.
+     *
+     * @param item item to remove
+     * @return The position the item was removed from, or -1 if it was not in the store
+     */
+    public int remove(T item) {
+        int position = items.indexOf(item);
+        if (position > -1) {
+            items.remove(position);
+            dispatcher().onRemoved(position, 1);
+        }
+        return position;
+    }
+
+    /**
+     * Removes all of the items from the store.
+     */
+    public void clear() {
+        items.clear();
+        dispatcher().onDataSetChanged();
+    }
+
+    /**
+     * Starts collecting changes instead of reporting them straight away. Consecutive changes of the same type are
+     * merged and reported once the matching {@link #endBatch()} is called. Batches can be nested.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch started with {@link #beginBatch()}, reporting the merged changes once the outer most batch ends.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("endBatch() called without a matching beginBatch()");
+        }
+        batchDepth--;
+        if (batchDepth == 0) {
+            batchingCallback.dispatchLastEvent();
+        }
+    }
+
+    public boolean isBatching() {
+        return batchDepth > 0;
+    }
+
+    private JACSListUpdateCallback dispatcher() {
+        return batchDepth > 0 ? batchingCallback : callback;
+    }
+}
@@ -0,0 +1,34 @@
+package com.jacs.mvvm.core.list;
+
+/**
+ * Receives the changes made to a {@link JACSListStore}.
+ * <p></p>
+ * The methods mirror the notify calls of a RecyclerView adapter so that an implementation can forward them directly.
+ */
+public interface JACSListUpdateCallback {
+
+    /**
+     * Called when `count` items have been inserted at `position`.
+     */
+    void onInserted(int position, int count);
+
+    /**
+     * Called when `count` items have been removed starting at `position`.
+     */
+    void onRemoved(int position, int count);
+
+    /**
+     * Called when an item has moved from `fromPosition` to `toPosition`.
+     */
+    void onMoved(int fromPosition, int toPosition);
+
+    /**
+     * Called when `count` items starting at `position` have changed in place.
+     */
+    void onChanged(int position, int count);
+
+    /**
+     * Called when the whole data set has been replaced and no finer grained change is known.
+     */
+    void onDataSetChanged();
+}
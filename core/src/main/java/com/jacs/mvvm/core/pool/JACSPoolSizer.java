@@ -0,0 +1,176 @@
+package com.jacs.mvvm.core.pool;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Works out how many recycled ViewHolders to keep per view type from what the list actually does.
+ * <p></p>
+ * A view type grows its pool by one every time a ViewHolder has to be created after the pool, being full, threw one of
+ * the same type away, and shrinks by one, down to half of its peak number of attached ViewHolders, after every
+ * {@link #SHRINK_AFTER_BINDS} binds without such a create. Memory pressure shrinks every pool straight away.
+ * <p></p>
+ * Creates while the pool never overflowed don't count, such as the ones filling RecyclerView's view cache or
+ * prefetching the next row while scrolling, as a bigger pool wouldn't have saved them.
+ * <p></p>
+ * Every event method returns whether the recommended size of that view type changed, so the caller only has to update
+ * the pool when needed.
+ */
+public class JACSPoolSizer {
+
+    /**
+     * The number of recycled ViewHolders RecyclerView keeps per view type by default.
+     */
+    public static final int DEFAULT_POOL_SIZE = 5;
+    public static final int SHRINK_AFTER_BINDS = 100;
+
+    private final int minSize;
+    private final int maxSize;
+    private final Map<Integer, JACSViewTypeStats> stats = new LinkedHashMap<>();
+
+    public JACSPoolSizer() {
+        this(1, 30);
+    }
+
+    /**
+     * @param minSize The smallest pool size to recommend for a view type
+     * @param maxSize The largest pool size to recommend for a view type
+     */
+    public JACSPoolSizer(int minSize, int maxSize) {
+        if (minSize < 0 || maxSize < minSize) {
+            throw new IllegalArgumentException("Invalid pool size bounds [" + minSize + ", " + maxSize + "]");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Called when a new ViewHolder of the view type has been created, before it is attached.
+     */
+    public boolean onCreated(int viewType) {
+        JACSViewTypeStats typeStats = statsFor(viewType);
+        typeStats.createCount++;
+        if (typeStats.pendingDropCount > 0) {
+            // A ViewHolder of this type was thrown away by the full pool earlier and had to be created again
+            typeStats.pendingDropCount--;
+            typeStats.wastedCreateCount++;
+            typeStats.bindsSinceWastedCreate = 0;
+            return setRecommendedSize(typeStats, Math.max(typeStats.recommendedSize + 1, baseSize(typeStats)));
+        }
+        return false;
+    }
+
+    /**
+     * Called when a ViewHolder of the view type is handed to the pool.
+     *
+     * @param isDropped `true` if the pool was already full, so the ViewHolder is thrown away
+     */
+    public void onRecycled(int viewType, boolean isDropped) {
+        JACSViewTypeStats typeStats = statsFor(viewType);
+        if (isDropped) {
+            typeStats.dropCount++;
+            typeStats.pendingDropCount++;
+        }
+    }
+
+    /**
+     * Called when a ViewHolder of the view type has been bound.
+     *
+     * @param isReused `true` if the ViewHolder had been bound before
+     */
+    public boolean onBound(int viewType, boolean isReused) {
+        JACSViewTypeStats typeStats = statsFor(viewType);
+        typeStats.bindCount++;
+        if (isReused) {
+            typeStats.reuseCount++;
+        }
+        typeStats.bindsSinceWastedCreate++;
+        if (typeStats.bindsSinceWastedCreate >= SHRINK_AFTER_BINDS) {
+            typeStats.bindsSinceWastedCreate = 0;
+            typeStats.pendingDropCount = 0;
+            if (typeStats.recommendedSize > baseSize(typeStats)) {
+                return setRecommendedSize(typeStats, typeStats.recommendedSize - 1);
+            }
+        }
+        return false;
+    }
+
+    public void onAttached(int viewType) {
+        JACSViewTypeStats typeStats = statsFor(viewType);
+        typeStats.attachedCount++;
+        typeStats.peakAttachedCount = Math.max(typeStats.peakAttachedCount, typeStats.attachedCount);
+    }
+
+    public void onDetached(int viewType) {
+        JACSViewTypeStats typeStats = statsFor(viewType);
+        typeStats.attachedCount = Math.max(0, typeStats.attachedCount - 1);
+    }
+
+    /**
+     * Shrinks every pool because memory is running low.
+     *
+     * @param isSevere `true` to shrink every pool to the minimum size, `false` to shrink to half of the peak attached count
+     * @return The view types whose recommended size changed
+     */
+    public List<Integer> onMemoryPressure(boolean isSevere) {
+        List<Integer> changed = new ArrayList<>();
+        for (JACSViewTypeStats typeStats : stats.values()) {
+            // Start measuring the peak again so the pools grow back only to what is needed from now on
+            typeStats.peakAttachedCount = typeStats.attachedCount;
+            typeStats.bindsSinceWastedCreate = 0;
+            typeStats.pendingDropCount = 0;
+            int target = isSevere ? minSize : Math.min(typeStats.recommendedSize, baseSize(typeStats));
+            if (setRecommendedSize(typeStats, target)) {
+                changed.add(typeStats.getViewType());
+            }
+        }
+        return changed;
+    }
+
+    public int getRecommendedSize(int viewType) {
+        JACSViewTypeStats typeStats = stats.get(viewType);
+        return typeStats != null ? typeStats.recommendedSize : clamp(DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Returns the statistics of a view type, or null if nothing has happened to it yet.
+     */
+    public JACSViewTypeStats getStats(int viewType) {
+        return stats.get(viewType);
+    }
+
+    /**
+     * Returns the statistics of every view type seen so far, in the order they were first seen.
+     */
+    public List<JACSViewTypeStats> getAllStats() {
+        return new ArrayList<>(stats.values());
+    }
+
+    private JACSViewTypeStats statsFor(int viewType) {
+        JACSViewTypeStats typeStats = stats.get(viewType);
+        if (typeStats == null) {
+            typeStats = new JACSViewTypeStats(viewType, clamp(DEFAULT_POOL_SIZE));
+            stats.put(viewType, typeStats);
+        }
+        return typeStats;
+    }
+
+    private int baseSize(JACSViewTypeStats typeStats) {
+        return clamp((typeStats.peakAttachedCount + 1) / 2);
+    }
+
+    private boolean setRecommendedSize(JACSViewTypeStats typeStats, int size) {
+        int clamped = clamp(size);
+        if (clamped == typeStats.recommendedSize) {
+            return false;
+        }
+        typeStats.recommendedSize = clamped;
+        return true;
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+}
@@ -0,0 +1,106 @@
+package com.jacs.mvvm.core.pool;
+
+/**
+ * Runtime statistics of the ViewHolders of a single view type, kept by {@link JACSPoolSizer}.
+ */
+public class JACSViewTypeStats {
+
+    private final int viewType;
+    int createCount;
+    int wastedCreateCount;
+    int dropCount;
+    int pendingDropCount;
+    int bindCount;
+    int reuseCount;
+    int attachedCount;
+    int peakAttachedCount;
+    int recommendedSize;
+    int bindsSinceWastedCreate;
+
+    JACSViewTypeStats(int viewType, int recommendedSize) {
+        this.viewType = viewType;
+        this.recommendedSize = recommendedSize;
+    }
+
+    public int getViewType() {
+        return viewType;
+    }
+
+    /**
+     * Returns the number of ViewHolders created.
+     */
+    public int getCreateCount() {
+        return createCount;
+    }
+
+    /**
+     * Returns the number of ViewHolders created after the full pool had thrown one of this type away, i.e. ones that a
+     * bigger pool could have reused instead.
+     */
+    public int getWastedCreateCount() {
+        return wastedCreateCount;
+    }
+
+    /**
+     * Returns the number of ViewHolders thrown away because the pool was full.
+     */
+    public int getDropCount() {
+        return dropCount;
+    }
+
+    /**
+     * Returns the number of times a ViewHolder has been bound.
+     */
+    public int getBindCount() {
+        return bindCount;
+    }
+
+    /**
+     * Returns the number of times an existing ViewHolder has been bound again.
+     */
+    public int getReuseCount() {
+        return reuseCount;
+    }
+
+    /**
+     * Returns the share of binds that reused an existing ViewHolder, from 0 to 1.
+     */
+    public float getReuseRate() {
+        return bindCount == 0 ? 0 : (float) reuseCount / bindCount;
+    }
+
+    /**
+     * Returns the number of ViewHolders currently attached to the window.
+     */
+    public int getAttachedCount() {
+        return attachedCount;
+    }
+
+    /**
+     * Returns the highest number of ViewHolders attached to the window at the same time.
+     */
+    public int getPeakAttachedCount() {
+        return peakAttachedCount;
+    }
+
+    /**
+     * Returns the number of recycled ViewHolders the pool should keep for this view type.
+     */
+    public int getRecommendedSize() {
+        return recommendedSize;
+    }
+
+    @Override
+    public String toString() {
+        return "JACSViewTypeStats{viewType=" + viewType
+                + ", created=" + createCount
+                + ", wastedCreates=" + wastedCreateCount
+                + ", dropped=" + dropCount
+                + ", bound=" + bindCount
+                + ", reused=" + reuseCount
+                + ", attached=" + attachedCount
+                + ", peakAttached=" + peakAttachedCount
+                + ", poolSize=" + recommendedSize
+                + "}";
+    }
+}
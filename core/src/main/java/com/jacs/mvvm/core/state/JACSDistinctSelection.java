@@ -0,0 +1,59 @@
+package com.jacs.mvvm.core.state;
+
+/**
+ * Keeps the last value derived from a state by a {@link JACSSelector} and tells whether a new state changes it.
+ * <p></p>
+ * The selector is only called when a different state instance is given, so derived values are memoised for as long
+ * as the state object is re-posted unchanged.
+ *
+ * @param <S> Type of the state
+ * @param <R> Type of the derived value
+ */
+public class JACSDistinctSelection<S, R> {
+
+    private final JACSSelector<S, R> selector;
+    private final JACSEquality equality;
+
+    private boolean hasValue = false;
+    private S lastState;
+    private R value;
+
+    public JACSDistinctSelection(JACSSelector<S, R> selector, JACSEquality equality) {
+        if (selector == null || equality == null) {
+            throw new IllegalArgumentException("Cannot create a selection without a selector and equality");
+        }
+        this.selector = selector;
+        this.equality = equality;
+    }
+
+    /**
+     * Derives the value for a new state.
+     *
+     * @param state The new state
+     * @return `true` if the derived value has changed and should be emitted, `false` if it is the same as before
+     */
+    public boolean update(S state) {
+        if (hasValue && state == lastState) {
+            return false;
+        }
+        lastState = state;
+        R newValue = selector.select(state);
+        if (hasValue && equality.isSame(value, newValue)) {
+            return false;
+        }
+        hasValue = true;
+        value = newValue;
+        return true;
+    }
+
+    /**
+     * Returns the last derived value, or null if no state has been given yet.
+     */
+    public R getValue() {
+        return value;
+    }
+
+    public boolean hasValue() {
+        return hasValue;
+    }
+}
@@ -0,0 +1,29 @@
+package com.jacs.mvvm.core.state;
+
+/**
+ * How two derived values are compared to decide whether a change needs to be emitted.
+ */
+public enum JACSEquality {
+
+    /**
+     * Values are the same when {@link Object#equals(Object)} returns true. Use this for values that are rebuilt every
+     * time but compare by content, i.e. Strings and lists.
+     */
+    EQUALS,
+
+    /**
+     * Values are the same only when they are the same instance. Use this for values whose equals is expensive or
+     * meaningless and that are only replaced when they change.
+     */
+    IDENTITY;
+
+    public boolean isSame(Object first, Object second) {
+        if (first == second) {
+            return true;
+        }
+        if (this == IDENTITY || first == null) {
+            return false;
+        }
+        return first.equals(second);
+    }
+}
@@ -0,0 +1,13 @@
+package com.jacs.mvvm.core.state;
+
+/**
+ * Derives a value from a state object, i.e. a single field or a formatted version of it.
+ * <p></p>
+ * A selector must only depend on the state it is given, as it is not called again while the state object stays the same.
+ *
+ * @param <S> Type of the state
+ * @param <R> Type of the derived value
+ */
+public interface JACSSelector<S, R> {
+    R select(S state);
+}
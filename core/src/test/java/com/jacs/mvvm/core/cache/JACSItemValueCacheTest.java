@@ -0,0 +1,73 @@
+package com.jacs.mvvm.core.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JACSItemValueCacheTest {
+
+    @Test
+    public void get_onlyReturnsMatchingVersion() {
+        JACSItemValueCache<String> cache = new JACSItemValueCache<>(100);
+        cache.put(1, 7, "formatted", 10);
+
+        assertEquals("formatted", cache.get(1, 7));
+        assertNull(cache.get(1, 8));
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    public void put_newVersionReplacesOldOne() {
+        JACSItemValueCache<String> cache = new JACSItemValueCache<>(100);
+        cache.put(1, 1, "old", 10);
+        cache.put(1, 2, "new", 20);
+
+        assertEquals(1, cache.count());
+        assertEquals(20, cache.sizeInBytes());
+        assertFalse(cache.contains(1, 1));
+        assertTrue(cache.contains(1, 2));
+    }
+
+    @Test
+    public void put_oversizedValueDoesNotEvictOthers() {
+        JACSItemValueCache<String> cache = new JACSItemValueCache<>(100);
+        cache.put(1, 0, "a", 40);
+        cache.put(2, 0, "b", 40);
+        cache.put(3, 0, "huge layout", 500);
+
+        assertFalse(cache.contains(3, 0));
+        assertTrue(cache.contains(1, 0));
+        assertTrue(cache.contains(2, 0));
+        assertEquals(80, cache.sizeInBytes());
+    }
+
+    @Test
+    public void put_evictsLeastRecentlyUsedByBytes() {
+        JACSItemValueCache<String> cache = new JACSItemValueCache<>(100);
+        cache.put(1, 0, "a", 40);
+        cache.put(2, 0, "b", 40);
+        cache.get(1, 0);
+        cache.put(3, 0, "c", 40);
+
+        assertTrue(cache.contains(1, 0));
+        assertFalse(cache.contains(2, 0));
+        assertTrue(cache.contains(3, 0));
+        assertEquals(80, cache.sizeInBytes());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    public void invalidate_removesItem() {
+        JACSItemValueCache<String> cache = new JACSItemValueCache<>(100);
+        cache.put(1, 0, "a", 10);
+        cache.put(2, 0, "b", 10);
+
+        cache.invalidate(1);
+        assertFalse(cache.contains(1, 0));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.sizeInBytes());
+    }
+}
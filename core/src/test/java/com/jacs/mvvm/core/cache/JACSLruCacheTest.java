@@ -0,0 +1,111 @@
+package com.jacs.mvvm.core.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JACSLruCacheTest {
+
+    @Test
+    public void put_evictsLeastRecentlyUsed() {
+        JACSLruCache<String, String> cache = new JACSLruCache<>(2);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    public void put_replacingValueKeepsSize() {
+        JACSLruCache<String, String> cache = new JACSLruCache<>(2);
+        cache.put("a", "1");
+        assertEquals("1", cache.put("a", "2"));
+
+        assertEquals(1, cache.size());
+        assertEquals("2", cache.get("a"));
+    }
+
+    @Test
+    public void sizeOf_boundsCacheBySize() {
+        JACSLruCache<String, String> cache = new JACSLruCache<String, String>(10) {
+            @Override
+            protected int sizeOf(String key, String value) {
+                return value.length();
+            }
+        };
+        cache.put("a", "12345");
+        cache.put("b", "1234");
+        assertEquals(9, cache.size());
+
+        cache.put("c", "12");
+
+        assertNull(cache.get("a"));
+        assertEquals(6, cache.size());
+    }
+
+    @Test
+    public void put_valueBiggerThanMaxSizeIsNotKept() {
+        JACSLruCache<String, String> cache = new JACSLruCache<String, String>(3) {
+            @Override
+            protected int sizeOf(String key, String value) {
+                return value.length();
+            }
+        };
+        cache.put("a", "1234");
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_valueBiggerThanMaxSizeKeepsOtherEntries() {
+        JACSLruCache<String, String> cache = new JACSLruCache<String, String>(5) {
+            @Override
+            protected int sizeOf(String key, String value) {
+                return value.length();
+            }
+        };
+        for (String key : new String[]{"a", "b", "c", "d", "e"}) {
+            cache.put(key, "1");
+        }
+        cache.put("f", "123456");
+        cache.put("a", "123456");
+
+        assertNull(cache.get("f"));
+        assertNull(cache.get("a"));
+        assertEquals(4, cache.count());
+        assertEquals(4, cache.size());
+        assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    public void remove_andEvictAll_updateSize() {
+        JACSLruCache<String, String> cache = new JACSLruCache<>(5);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+
+        assertEquals("2", cache.remove("b"));
+        assertEquals(2, cache.size());
+
+        cache.evictAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.count());
+    }
+
+    @Test
+    public void get_countsHitsAndMisses() {
+        JACSLruCache<String, String> cache = new JACSLruCache<>(5);
+        cache.put("a", "1");
+        cache.get("a");
+        cache.get("b");
+
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+}
@@ -0,0 +1,197 @@
+package com.jacs.mvvm.core.concurrent;
+
+import com.jacs.mvvm.core.JACSClock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JACSSchedulerTest {
+
+    private static class FakeClock implements JACSClock {
+        long now;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+    }
+
+    private JACSManualExecutor executor;
+    private FakeClock clock;
+    private JACSScheduler scheduler;
+    private List<String> ran;
+    private final Object owner = new Object();
+
+    @Before
+    public void setUp() {
+        executor = new JACSManualExecutor();
+        clock = new FakeClock();
+        scheduler = new JACSScheduler(executor, 2, clock);
+        ran = new ArrayList<>();
+    }
+
+    private Runnable record(final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                ran.add(name);
+            }
+        };
+    }
+
+    @Test
+    public void tasksRunByPriorityThenInOrder() {
+        scheduler.submit(owner, JACSPriority.PREWARM, record("prewarm"));
+        scheduler.submit(owner, JACSPriority.PREFETCH, record("prefetch 1"));
+        scheduler.submit(owner, JACSPriority.VISIBLE, record("visible"));
+        scheduler.submit(owner, JACSPriority.PREFETCH, record("prefetch 2"));
+
+        executor.runAll();
+
+        assertEquals(Arrays.asList("visible", "prefetch 1", "prefetch 2", "prewarm"), ran);
+    }
+
+    @Test
+    public void workersAreLimitedToParallelism() {
+        for (int i = 0; i < 10; i++) {
+            scheduler.submit(owner, JACSPriority.VISIBLE, record("task " + i));
+        }
+
+        assertEquals(2, executor.getPendingCount());
+        executor.runAll();
+        assertEquals(10, ran.size());
+    }
+
+    @Test
+    public void cancelAll_dropsQueuedTasksOfOwner() {
+        Object otherOwner = new Object();
+        JACSTask cancelled = scheduler.submit(owner, JACSPriority.VISIBLE, record("owner"));
+        scheduler.submit(otherOwner, JACSPriority.VISIBLE, record("other"));
+
+        scheduler.cancelAll(owner);
+        executor.runAll();
+
+        assertEquals(Arrays.asList("other"), ran);
+        assertTrue(cancelled.isCancelled());
+        assertTrue(cancelled.isDone());
+        assertEquals(1, scheduler.getStats(JACSPriority.VISIBLE).getCancelledCount());
+    }
+
+    @Test
+    public void taskWork_isGivenItsTask() {
+        final List<JACSTask> given = new ArrayList<>();
+        final int[] steps = new int[1];
+        JACSTask task = scheduler.submit(owner, JACSPriority.VISIBLE, new JACSTaskWork() {
+            @Override
+            public void run(JACSTask task) {
+                given.add(task);
+                while (!task.isCancelled() && steps[0] < 100) {
+                    steps[0]++;
+                    if (steps[0] == 3) {
+                        scheduler.cancelAll(owner);
+                    }
+                }
+            }
+        });
+
+        executor.runAll();
+
+        assertEquals(Arrays.asList(task), given);
+        assertEquals(3, steps[0]);
+        assertTrue(task.isDone());
+    }
+
+    @Test
+    public void cancelAll_flagsRunningTasks() {
+        final JACSTask[] task = new JACSTask[1];
+        final boolean[] sawCancel = new boolean[1];
+        task[0] = scheduler.submit(owner, JACSPriority.VISIBLE, new Runnable() {
+            @Override
+            public void run() {
+                scheduler.cancelAll(owner);
+                sawCancel[0] = task[0].isCancelled();
+            }
+        });
+
+        executor.runAll();
+
+        assertTrue(sawCancel[0]);
+        assertTrue(task[0].isDone());
+    }
+
+    @Test
+    public void cancel_beforeRunningSkipsTask() {
+        JACSTask task = scheduler.submit(owner, JACSPriority.PREFETCH, record("cancelled"));
+        task.cancel();
+
+        executor.runAll();
+
+        assertTrue(ran.isEmpty());
+        assertTrue(task.isDone());
+    }
+
+    @Test
+    public void stats_trackQueueDepthAndWait() {
+        scheduler.submit(owner, JACSPriority.PREFETCH, record("a"));
+        scheduler.submit(owner, JACSPriority.PREFETCH, record("b"));
+        scheduler.submit(owner, JACSPriority.PREFETCH, record("c"));
+        assertEquals(3, scheduler.getStats(JACSPriority.PREFETCH).getQueueDepth());
+
+        clock.now = 1000;
+        executor.runAll();
+
+        JACSLaneStats stats = scheduler.getStats(JACSPriority.PREFETCH);
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(3, stats.getMaxQueueDepth());
+        assertEquals(3, stats.getCompletedCount());
+        assertEquals(1000, stats.getAverageWaitNanos());
+        assertEquals(1000, stats.getMaxWaitNanos());
+        assertEquals(0, scheduler.getStats(JACSPriority.VISIBLE).getCompletedCount());
+    }
+
+    @Test
+    public void failingTask_doesNotStopTheQueue() {
+        JACSScheduler single = new JACSScheduler(executor, 1, clock);
+        final List<Throwable> failures = new ArrayList<>();
+        Thread.UncaughtExceptionHandler previous = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(Thread thread, Throwable throwable) {
+                failures.add(throwable);
+            }
+        });
+        try {
+            single.submit(owner, JACSPriority.VISIBLE, new Runnable() {
+                @Override
+                public void run() {
+                    throw new IllegalStateException("failed");
+                }
+            });
+            single.submit(owner, JACSPriority.VISIBLE, record("after"));
+
+            executor.runAll();
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(previous);
+        }
+
+        assertEquals(1, failures.size());
+        assertEquals(Arrays.asList("after"), ran);
+        single.submit(owner, JACSPriority.VISIBLE, record("later"));
+        executor.runAll();
+        assertEquals(Arrays.asList("after", "later"), ran);
+    }
+
+    @Test
+    public void defaultParallelism_leavesACoreAndIsCapped() {
+        assertEquals(1, JACSScheduler.defaultParallelism(1));
+        assertEquals(1, JACSScheduler.defaultParallelism(2));
+        assertEquals(3, JACSScheduler.defaultParallelism(4));
+        assertEquals(4, JACSScheduler.defaultParallelism(8));
+    }
+}
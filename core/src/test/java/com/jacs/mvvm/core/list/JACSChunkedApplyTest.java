@@ -0,0 +1,136 @@
+package com.jacs.mvvm.core.list;
+
+import com.jacs.mvvm.core.JACSClock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JACSChunkedApplyTest {
+
+    private static final long NANOS_PER_ITEM = 1000;
+
+    /**
+     * A clock that only moves when items are applied, so every item costs the same amount of time.
+     */
+    private static class FakeClock implements JACSClock {
+        long now;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+    }
+
+    private FakeClock clock;
+    private JACSListStore<Integer> store;
+    private List<Integer> data;
+
+    @Before
+    public void setUp() {
+        clock = new FakeClock();
+        store = new JACSListStore<>(new ArrayList<Integer>(), new JACSListStoreTest.RecordingCallback() {
+            @Override
+            public void onInserted(int position, int count) {
+                super.onInserted(position, count);
+                clock.now += count * NANOS_PER_ITEM;
+            }
+
+            @Override
+            public void onDataSetChanged() {
+                super.onDataSetChanged();
+                clock.now += store.size() * NANOS_PER_ITEM;
+            }
+        });
+        data = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            data.add(i);
+        }
+    }
+
+    @Test
+    public void replace_appliesWindowFirst() {
+        store.add(-1);
+        JACSChunkedApply<Integer> apply = JACSChunkedApply.replace(store, data, 5000, 5050, clock);
+
+        apply.step(0);
+
+        assertEquals(data.subList(5000, 5050), store.getItems());
+        assertEquals(50, apply.getAppliedCount());
+        assertEquals(10, apply.toStorePosition(5010));
+        assertFalse(apply.isDone());
+    }
+
+    @Test
+    public void replace_storeIsAlwaysAContiguousPartOfTheData() {
+        JACSChunkedApply<Integer> apply = JACSChunkedApply.replace(store, data, 5000, 5050, clock);
+
+        while (!apply.step(100 * NANOS_PER_ITEM)) {
+            int first = store.get(0);
+            assertEquals(data.subList(first, first + store.size()), store.getItems());
+            assertEquals(apply.getAppliedCount(), store.size());
+        }
+
+        assertEquals(data, store.getItems());
+    }
+
+    @Test
+    public void step_staysCloseToBudget() {
+        JACSChunkedApply<Integer> apply = JACSChunkedApply.replace(store, data, 0, 50, clock);
+        long budget = 500 * NANOS_PER_ITEM;
+
+        while (!apply.step(budget)) {
+            // The first chunk after the window is a guess, after that chunks are sized from the measured cost
+            if (apply.getStepCount() > 2) {
+                assertTrue(apply.getLastStepNanos() <= budget + 16 * NANOS_PER_ITEM);
+            }
+        }
+
+        assertTrue(apply.getStepCount() >= 10000 / 500);
+        assertTrue(apply.getAverageStepNanos() <= budget);
+    }
+
+    @Test
+    public void append_addsToTheEnd() {
+        store.add(-1);
+        JACSChunkedApply<Integer> apply = JACSChunkedApply.append(store, data, clock);
+
+        apply.step(0);
+        assertEquals(1 + apply.getAppliedCount(), store.size());
+        apply.complete();
+
+        assertTrue(apply.isDone());
+        assertEquals(10001, store.size());
+        assertEquals(Integer.valueOf(-1), store.get(0));
+        assertEquals(Integer.valueOf(9999), store.get(10000));
+    }
+
+    @Test
+    public void complete_appliesEverythingInOneStep() {
+        JACSChunkedApply<Integer> apply = JACSChunkedApply.replace(store, data, 100, 200, clock);
+
+        apply.complete();
+
+        assertEquals(data, store.getItems());
+        assertEquals(1, apply.getStepCount());
+    }
+
+    @Test
+    public void replace_copiesTheData() {
+        JACSChunkedApply<Integer> apply = JACSChunkedApply.replace(store, data, 0, 10, clock);
+        data.clear();
+
+        apply.complete();
+
+        assertEquals(10000, store.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void replace_rejectsWindowOutsideData() {
+        JACSChunkedApply.replace(store, data, 9990, 10010, clock);
+    }
+}
@@ -0,0 +1,62 @@
+package com.jacs.mvvm.core.list;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JACSListSnapshotTest {
+
+    private static final JACSItemIdProvider<Long> ID = new JACSItemIdProvider<Long>() {
+        @Override
+        public long getItemId(Long item) {
+            return item;
+        }
+    };
+
+    private static List<Long> items(int count) {
+        List<Long> items = new ArrayList<>(count);
+        for (long i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    @Test
+    public void matches_sameItems() {
+        List<Long> items = items(100);
+        JACSListSnapshot snapshot = new JACSListSnapshot(100, JACSListSnapshot.fingerprintOf(items, ID), 50, -20);
+
+        assertTrue(snapshot.matches(items(100), ID));
+    }
+
+    @Test
+    public void matches_failsForChangedOrMovedItems() {
+        List<Long> items = items(3);
+        JACSListSnapshot snapshot = new JACSListSnapshot(3, JACSListSnapshot.fingerprintOf(items, ID), 0, 0);
+
+        assertFalse(snapshot.matches(Arrays.asList(0L, 2L, 1L), ID));
+        assertFalse(snapshot.matches(Arrays.asList(0L, 1L, 3L), ID));
+        assertFalse(snapshot.matches(items(4), ID));
+    }
+
+    @Test
+    public void window_isAroundAnchor() {
+        JACSListSnapshot snapshot = new JACSListSnapshot(10000, 0, 5000, 0);
+
+        assertEquals(4990, snapshot.getWindowStart(30));
+        assertEquals(5020, snapshot.getWindowEnd(30));
+    }
+
+    @Test
+    public void window_isClampedToList() {
+        assertEquals(0, new JACSListSnapshot(10000, 0, 3, 0).getWindowStart(30));
+        assertEquals(9970, new JACSListSnapshot(10000, 0, 9999, 0).getWindowStart(30));
+        assertEquals(10000, new JACSListSnapshot(10000, 0, 9999, 0).getWindowEnd(30));
+        assertEquals(0, new JACSListSnapshot(10, 0, 5, 0).getWindowStart(30));
+        assertEquals(10, new JACSListSnapshot(10, 0, 5, 0).getWindowEnd(30));
+    }
+}
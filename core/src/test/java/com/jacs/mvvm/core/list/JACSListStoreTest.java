@@ -0,0 +1,191 @@
+package com.jacs.mvvm.core.list;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JACSListStoreTest {
+
+    private RecordingCallback callback;
+    private JACSListStore<String> store;
+
+    @Before
+    public void setUp() {
+        callback = new RecordingCallback();
+        store = new JACSListStore<>(new ArrayList<String>(), callback);
+    }
+
+    @Test
+    public void setAll_replacesItemsAndNotifiesDataSetChanged() {
+        store.add("old");
+        callback.events.clear();
+
+        store.setAll(Arrays.asList("a", "b"));
+
+        assertEquals(Arrays.asList("a", "b"), store.getItems());
+        assertEquals(Arrays.asList("changed all"), callback.events);
+    }
+
+    @Test
+    public void addAll_notifiesInsertedRangeAtEnd() {
+        store.add("a");
+        store.addAll(Arrays.asList("b", "c"));
+
+        assertEquals(Arrays.asList("inserted 0 1", "inserted 1 2"), callback.events);
+    }
+
+    @Test
+    public void insertAll_notifiesInsertedRangeAtPosition() {
+        store.addAll(Arrays.asList("a", "d"));
+        store.insertAll(1, Arrays.asList("b", "c"));
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), store.getItems());
+        assertEquals("inserted 1 2", callback.events.get(1));
+    }
+
+    @Test
+    public void remove_returnsPositionAndNotifies() {
+        store.addAll(Arrays.asList("a", "b", "c"));
+        callback.events.clear();
+
+        assertEquals(1, store.remove("b"));
+        assertEquals(-1, store.remove("missing"));
+        assertEquals(Arrays.asList("removed 1 1"), callback.events);
+    }
+
+    @Test
+    public void set_replacesItemAndNotifiesChanged() {
+        store.addAll(Arrays.asList("a", "b"));
+        callback.events.clear();
+
+        assertEquals("b", store.set(1, "c"));
+        assertEquals(Arrays.asList("a", "c"), store.getItems());
+        assertEquals(Arrays.asList("changed 1 1"), callback.events);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_rejectsNull() {
+        store.add(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setAll_rejectsNull() {
+        store.setAll(null);
+    }
+
+    @Test
+    public void batch_mergesConsecutiveInserts() {
+        store.beginBatch();
+        store.add("a");
+        store.add("b");
+        store.addAll(Arrays.asList("c", "d"));
+        assertTrue(callback.events.isEmpty());
+        store.endBatch();
+
+        assertEquals(Arrays.asList("inserted 0 4"), callback.events);
+    }
+
+    @Test
+    public void batch_mergesConsecutiveRemoves() {
+        store.addAll(Arrays.asList("a", "b", "c", "d"));
+        callback.events.clear();
+
+        store.beginBatch();
+        store.remove("c");
+        store.remove("b");
+        store.endBatch();
+
+        assertEquals(Arrays.asList("removed 1 2"), callback.events);
+    }
+
+    @Test
+    public void batch_keepsOrderOfDifferentChanges() {
+        store.addAll(Arrays.asList("a", "b"));
+        callback.events.clear();
+
+        store.beginBatch();
+        store.add("c");
+        store.remove("a");
+        store.endBatch();
+
+        assertEquals(Arrays.asList("inserted 2 1", "removed 0 1"), callback.events);
+    }
+
+    @Test
+    public void batch_dataSetChangedSupersedesOtherChanges() {
+        store.beginBatch();
+        store.add("a");
+        store.setAll(Arrays.asList("b"));
+        store.add("c");
+        store.endBatch();
+
+        assertEquals(Arrays.asList("changed all"), callback.events);
+    }
+
+    @Test
+    public void batch_nestedBatchesDispatchOnOuterEnd() {
+        store.beginBatch();
+        store.beginBatch();
+        store.add("a");
+        store.endBatch();
+        assertTrue(callback.events.isEmpty());
+        store.add("b");
+        store.endBatch();
+
+        assertEquals(Arrays.asList("inserted 0 2"), callback.events);
+    }
+
+    @Test
+    public void setItems_duringBatchKeepsBatchAndReportsDataSetChanged() {
+        store.beginBatch();
+        store.add("a");
+        store.setItems(new ArrayList<>(Arrays.asList("x", "y")));
+        store.add("z");
+
+        assertTrue(callback.events.isEmpty());
+        store.endBatch();
+
+        assertEquals(Arrays.asList("x", "y", "z"), store.getItems());
+        assertEquals(Arrays.asList("changed all"), callback.events);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endBatch_withoutBegin_throws() {
+        store.endBatch();
+    }
+
+    static class RecordingCallback implements JACSListUpdateCallback {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onInserted(int position, int count) {
+            events.add("inserted " + position + " " + count);
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            events.add("removed " + position + " " + count);
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            events.add("moved " + fromPosition + " " + toPosition);
+        }
+
+        @Override
+        public void onChanged(int position, int count) {
+            events.add("changed " + position + " " + count);
+        }
+
+        @Override
+        public void onDataSetChanged() {
+            events.add("changed all");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.jacs.mvvm.core.pool;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JACSPoolSizerTest {
+
+    private static final int TYPE = 1;
+
+    /**
+     * Shows `count` ViewHolders for the first time, as happens when a list is first laid out.
+     */
+    private static void showFirstScreen(JACSPoolSizer sizer, int count) {
+        for (int i = 0; i < count; i++) {
+            sizer.onCreated(TYPE);
+            sizer.onBound(TYPE, false);
+            sizer.onAttached(TYPE);
+        }
+    }
+
+    /**
+     * Detaches `count` ViewHolders and hands them to a pool that can only keep `kept` of them.
+     */
+    private static void detachIntoPool(JACSPoolSizer sizer, int count, int kept) {
+        for (int i = 0; i < count; i++) {
+            sizer.onDetached(TYPE);
+            sizer.onRecycled(TYPE, i >= kept);
+        }
+    }
+
+    @Test
+    public void firstLayout_keepsDefaultSize() {
+        JACSPoolSizer sizer = new JACSPoolSizer();
+
+        showFirstScreen(sizer, 12);
+
+        assertEquals(JACSPoolSizer.DEFAULT_POOL_SIZE, sizer.getRecommendedSize(TYPE));
+        assertEquals(0, sizer.getStats(TYPE).getWastedCreateCount());
+        assertEquals(12, sizer.getStats(TYPE).getPeakAttachedCount());
+    }
+
+    @Test
+    public void fling_growsPoolWhenHoldersAreCreatedAgain() {
+        JACSPoolSizer sizer = new JACSPoolSizer();
+        showFirstScreen(sizer, 12);
+
+        // A fast fling detaches a whole screen before the next one is attached, and the pool could only keep 5
+        detachIntoPool(sizer, 12, JACSPoolSizer.DEFAULT_POOL_SIZE);
+        boolean changed = false;
+        for (int i = 0; i < 7; i++) {
+            changed |= sizer.onCreated(TYPE);
+            sizer.onBound(TYPE, false);
+        }
+
+        assertTrue(changed);
+        assertEquals(7, sizer.getStats(TYPE).getWastedCreateCount());
+        assertEquals(7, sizer.getStats(TYPE).getDropCount());
+        assertEquals(12, sizer.getRecommendedSize(TYPE));
+    }
+
+    @Test
+    public void steadyScroll_doesNotGrowPool() {
+        JACSPoolSizer sizer = new JACSPoolSizer();
+        showFirstScreen(sizer, 10);
+
+        // Scrolling one row at a time: the row scrolled off goes to RecyclerView's view cache (2 by default), the cache
+        // hands its eldest to the pool, and the row scrolled on takes a ViewHolder from the pool or creates one.
+        // The first rows are created while the cache fills up, with fewer ViewHolders attached than the peak.
+        int cached = 0;
+        int pooled = 0;
+        for (int i = 0; i < 5 * JACSPoolSizer.SHRINK_AFTER_BINDS; i++) {
+            sizer.onDetached(TYPE);
+            cached++;
+            if (cached > 2) {
+                cached--;
+                boolean isDropped = pooled >= sizer.getRecommendedSize(TYPE);
+                sizer.onRecycled(TYPE, isDropped);
+                if (!isDropped) {
+                    pooled++;
+                }
+            }
+            if (pooled > 0) {
+                pooled--;
+                sizer.onBound(TYPE, true);
+            } else {
+                sizer.onCreated(TYPE);
+                sizer.onBound(TYPE, false);
+            }
+            sizer.onAttached(TYPE);
+        }
+
+        assertTrue(sizer.getStats(TYPE).getCreateCount() > 10);
+        assertEquals(0, sizer.getStats(TYPE).getWastedCreateCount());
+        assertTrue(sizer.getRecommendedSize(TYPE) <= JACSPoolSizer.DEFAULT_POOL_SIZE);
+    }
+
+    @Test
+    public void steadyReuse_shrinksTowardsHalfOfPeak() {
+        JACSPoolSizer sizer = new JACSPoolSizer(1, 30);
+        showFirstScreen(sizer, 4);
+
+        for (int i = 0; i < 10 * JACSPoolSizer.SHRINK_AFTER_BINDS; i++) {
+            sizer.onDetached(TYPE);
+            sizer.onBound(TYPE, true);
+            sizer.onAttached(TYPE);
+        }
+
+        assertEquals(2, sizer.getRecommendedSize(TYPE));
+        assertTrue(sizer.getStats(TYPE).getReuseRate() > 0.9f);
+    }
+
+    @Test
+    public void memoryPressure_shrinksEveryPool() {
+        JACSPoolSizer sizer = new JACSPoolSizer(1, 30);
+        showFirstScreen(sizer, 12);
+        detachIntoPool(sizer, 12, 2);
+        for (int i = 0; i < 10; i++) {
+            sizer.onCreated(TYPE);
+        }
+        assertTrue(sizer.getRecommendedSize(TYPE) > JACSPoolSizer.DEFAULT_POOL_SIZE);
+
+        List<Integer> changed = sizer.onMemoryPressure(true);
+
+        assertEquals(1, changed.size());
+        assertEquals(1, sizer.getRecommendedSize(TYPE));
+    }
+
+    @Test
+    public void recommendedSize_isClampedToBounds() {
+        JACSPoolSizer sizer = new JACSPoolSizer(2, 6);
+        showFirstScreen(sizer, 20);
+        detachIntoPool(sizer, 20, 0);
+        for (int i = 0; i < 20; i++) {
+            sizer.onCreated(TYPE);
+        }
+
+        assertEquals(6, sizer.getRecommendedSize(TYPE));
+        assertEquals(5, new JACSPoolSizer(2, 6).getRecommendedSize(99));
+    }
+}
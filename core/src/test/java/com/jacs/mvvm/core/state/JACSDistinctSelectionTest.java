@@ -0,0 +1,91 @@
+package com.jacs.mvvm.core.state;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JACSDistinctSelectionTest {
+
+    private static class State {
+        final String title;
+        final int counter;
+
+        State(String title, int counter) {
+            this.title = title;
+            this.counter = counter;
+        }
+    }
+
+    private static class CountingSelector implements JACSSelector<State, String> {
+        int calls;
+
+        @Override
+        public String select(State state) {
+            calls++;
+            return new String(state.title);
+        }
+    }
+
+    @Test
+    public void update_firstStateAlwaysEmits() {
+        JACSDistinctSelection<State, String> selection = new JACSDistinctSelection<>(new CountingSelector(), JACSEquality.EQUALS);
+
+        assertTrue(selection.update(new State("a", 0)));
+        assertEquals("a", selection.getValue());
+    }
+
+    @Test
+    public void update_noisyUpstreamOnlyEmitsWhenSliceChanges() {
+        JACSDistinctSelection<State, String> selection = new JACSDistinctSelection<>(new CountingSelector(), JACSEquality.EQUALS);
+        List<String> emitted = new ArrayList<>();
+
+        for (int tick = 0; tick < 100; tick++) {
+            // Every tick posts a new state object, but the title only changes every 25 ticks
+            State state = new State("title " + (tick / 25), tick);
+            if (selection.update(state)) {
+                emitted.add(selection.getValue());
+            }
+        }
+
+        assertEquals(4, emitted.size());
+        assertEquals("title 3", emitted.get(3));
+    }
+
+    @Test
+    public void update_sameStateInstanceIsMemoised() {
+        CountingSelector selector = new CountingSelector();
+        JACSDistinctSelection<State, String> selection = new JACSDistinctSelection<>(selector, JACSEquality.EQUALS);
+        State state = new State("a", 0);
+
+        selection.update(state);
+        assertFalse(selection.update(state));
+        assertFalse(selection.update(state));
+
+        assertEquals(1, selector.calls);
+    }
+
+    @Test
+    public void update_identityEqualityEmitsForEqualButNewValues() {
+        JACSDistinctSelection<State, String> selection = new JACSDistinctSelection<>(new CountingSelector(), JACSEquality.IDENTITY);
+
+        assertTrue(selection.update(new State("a", 0)));
+        assertTrue(selection.update(new State("a", 1)));
+    }
+
+    @Test
+    public void update_nullValuesAreComparable() {
+        JACSDistinctSelection<State, String> selection = new JACSDistinctSelection<>(new JACSSelector<State, String>() {
+            @Override
+            public String select(State state) {
+                return null;
+            }
+        }, JACSEquality.EQUALS);
+
+        assertTrue(selection.update(new State("a", 0)));
+        assertFalse(selection.update(new State("b", 0)));
+        assertTrue(selection.hasValue());
+    }
+}